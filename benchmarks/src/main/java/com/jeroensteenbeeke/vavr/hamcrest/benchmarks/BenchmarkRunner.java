@@ -0,0 +1,38 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Runs all benchmarks (or those selected by the usual JMH command line
+ * arguments) with the GC profiler attached, so every result reports both throughput and allocation rate,
+ * and writes the results to {@code jmh-result.json} for comparison between builds
+ */
+public final class BenchmarkRunner {
+	private BenchmarkRunner() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args Regular JMH command line arguments
+	 * @throws RunnerException            If the benchmarks could not be run
+	 * @throws CommandLineOptionException If the command line arguments are invalid
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+
+		new Runner(new OptionsBuilder()
+				.parent(commandLine)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(commandLine.getResult().orElse("jmh-result.json"))
+				.build()).run();
+	}
+}
@@ -0,0 +1,257 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import io.vavr.control.Either;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers.*;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Construction, match and mismatch cost of the Either matchers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherMatcherBenchmark {
+	private final Either<String, String> left = Either.left("L");
+
+	private final Either<String, String> otherLeft = Either.left("X");
+
+	private final Either<String, String> right = Either.right("R");
+
+	private final Either<String, String> otherRight = Either.right("X");
+
+	private final Matcher<Either<?, ?>> isLeft = isLeft();
+
+	private final Matcher<Either<String, ?>> isLeftValue = isLeft("L");
+
+	private final Matcher<Either<String, ?>> isLeftMatcher = isLeft(equalTo("L"));
+
+	private final Matcher<Either<String, ?>> isLeftPredicate = isLeft("starts with L", (String s) -> s.startsWith("L"));
+
+	private final Matcher<Either<?, ?>> isRight = isRight();
+
+	private final Matcher<Either<?, String>> isRightValue = isRight("R");
+
+	private final Matcher<Either<?, String>> isRightMatcher = isRight(equalTo("R"));
+
+	private final Matcher<Either<?, String>> isRightPredicate = isRight("starts with R", (String s) -> s.startsWith("R"));
+
+	// region Construction
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLeft() {
+		return isLeft();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLeftValue() {
+		return isLeft("L");
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLeftMatcher() {
+		return isLeft(equalTo("L"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLeftPredicate() {
+		return isLeft("starts with L", (String s) -> s.startsWith("L"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsRight() {
+		return isRight();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsRightValue() {
+		return isRight("R");
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsRightMatcher() {
+		return isRight(equalTo("R"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsRightPredicate() {
+		return isRight("starts with R", (String s) -> s.startsWith("R"));
+	}
+
+	// endregion
+
+	// region Success path
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLeft() {
+		return isLeft.matches(left);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLeftValue() {
+		return isLeftValue.matches(left);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLeftMatcher() {
+		return isLeftMatcher.matches(left);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLeftPredicate() {
+		return isLeftPredicate.matches(left);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsRight() {
+		return isRight.matches(right);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsRightValue() {
+		return isRightValue.matches(right);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsRightMatcher() {
+		return isRightMatcher.matches(right);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsRightPredicate() {
+		return isRightPredicate.matches(right);
+	}
+
+	// endregion
+
+	// region Mismatch path
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLeft() {
+		return Mismatches.failedAssertion(isLeft, right);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLeftValue() {
+		return Mismatches.failedAssertion(isLeftValue, otherLeft);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLeftMatcher() {
+		return Mismatches.failedAssertion(isLeftMatcher, otherLeft);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLeftPredicate() {
+		return Mismatches.failedAssertion(isLeftPredicate, otherLeft);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsRight() {
+		return Mismatches.failedAssertion(isRight, left);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsRightValue() {
+		return Mismatches.failedAssertion(isRightValue, otherRight);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsRightMatcher() {
+		return Mismatches.failedAssertion(isRightMatcher, otherRight);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsRightPredicate() {
+		return Mismatches.failedAssertion(isRightPredicate, otherRight);
+	}
+
+	// endregion
+}
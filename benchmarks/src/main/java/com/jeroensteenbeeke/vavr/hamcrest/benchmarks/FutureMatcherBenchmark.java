@@ -0,0 +1,285 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers;
+import io.vavr.concurrent.Future;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers.*;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+
+/**
+ * Construction, match and mismatch cost of the Future matchers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FutureMatcherBenchmark {
+	private final Future<String> success = Future.successful("F");
+
+	private final Future<String> otherSuccess = Future.successful("X");
+
+	private final Future<String> failure = Future.failed(new IllegalStateException("Illegal State"));
+
+	private final Future<String> otherFailure = Future.failed(new IllegalArgumentException("Illegal Argument"));
+
+	private final Matcher<Future<String>> isFuture = isFuture();
+
+	private final Matcher<Future<String>> isFutureWithTimeout = VavrMatchers.<String>isFuture().withTimeout(1, TimeUnit.SECONDS);
+
+	private final Matcher<Future<String>> isFutureValue = isFuture("F");
+
+	private final Matcher<Future<String>> isFutureMatcher = isFuture(equalTo("F"));
+
+	private final Matcher<Future<String>> isFuturePredicate = isFutureMatching("starts with F", (String s) -> s.startsWith("F"));
+
+	private final Matcher<Future<String>> isFailedFuture = isFailedFuture();
+
+	private final Matcher<Future<String>> isFailedFutureOfType = VavrMatchers.<String>isFailedFuture(IllegalStateException.class).withMessage("Illegal State");
+
+	private final Matcher<Future<String>> isFailedFutureMatcher = VavrMatchers.<String>isFailedFuture(instanceOf(IllegalStateException.class));
+
+	private final Matcher<Future<String>> isFailedFuturePredicate = VavrMatchers.<String>isFailedFutureMatching("is an illegal state", t -> t instanceof IllegalStateException);
+
+	// region Construction
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFuture() {
+		return isFuture();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFutureWithTimeout() {
+		return VavrMatchers.<String>isFuture().withTimeout(1, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFutureValue() {
+		return isFuture("F");
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFutureMatcher() {
+		return isFuture(equalTo("F"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFuturePredicate() {
+		return isFutureMatching("starts with F", (String s) -> s.startsWith("F"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailedFuture() {
+		return isFailedFuture();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailedFutureOfType() {
+		return VavrMatchers.<String>isFailedFuture(IllegalStateException.class).withMessage("Illegal State");
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailedFutureMatcher() {
+		return VavrMatchers.<String>isFailedFuture(instanceOf(IllegalStateException.class));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailedFuturePredicate() {
+		return VavrMatchers.<String>isFailedFutureMatching("is an illegal state", t -> t instanceof IllegalStateException);
+	}
+
+	// endregion
+
+	// region Success path
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFuture() {
+		return isFuture.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFutureWithTimeout() {
+		return isFutureWithTimeout.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFutureValue() {
+		return isFutureValue.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFutureMatcher() {
+		return isFutureMatcher.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFuturePredicate() {
+		return isFuturePredicate.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailedFuture() {
+		return isFailedFuture.matches(failure);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailedFutureOfType() {
+		return isFailedFutureOfType.matches(failure);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailedFutureMatcher() {
+		return isFailedFutureMatcher.matches(failure);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailedFuturePredicate() {
+		return isFailedFuturePredicate.matches(failure);
+	}
+
+	// endregion
+
+	// region Mismatch path
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFuture() {
+		return Mismatches.failedAssertion(isFuture, failure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFutureWithTimeout() {
+		return Mismatches.failedAssertion(isFutureWithTimeout, failure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFutureValue() {
+		return Mismatches.failedAssertion(isFutureValue, otherSuccess);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFutureMatcher() {
+		return Mismatches.failedAssertion(isFutureMatcher, otherSuccess);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFuturePredicate() {
+		return Mismatches.failedAssertion(isFuturePredicate, otherSuccess);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailedFuture() {
+		return Mismatches.failedAssertion(isFailedFuture, success);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailedFutureOfType() {
+		return Mismatches.failedAssertion(isFailedFutureOfType, otherFailure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailedFutureMatcher() {
+		return Mismatches.failedAssertion(isFailedFutureMatcher, otherFailure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailedFuturePredicate() {
+		return Mismatches.failedAssertion(isFailedFuturePredicate, otherFailure);
+	}
+
+	// endregion
+}
@@ -0,0 +1,176 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers;
+import io.vavr.Lazy;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers.*;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Construction, match and mismatch cost of the Lazy matchers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyMatcherBenchmark {
+	private final Lazy<Integer> five = Lazy.of(() -> 5);
+
+	private final Lazy<Integer> four = Lazy.of(() -> 4);
+
+	private final Matcher<Lazy<Integer>> isLazy = isLazy();
+
+	private final Matcher<Lazy<Integer>> isLazyWithTimeout = VavrMatchers.<Integer>isLazy(5).withTimeout(1, TimeUnit.SECONDS);
+
+	private final Matcher<Lazy<Integer>> isLazyValue = isLazy(5);
+
+	private final Matcher<Lazy<Integer>> isLazyMatcher = isLazy(equalTo(5));
+
+	private final Matcher<Lazy<Integer>> isLazyPredicate = isLazyMatching("equals 5", (Integer v) -> v == 5);
+
+	// region Construction
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLazy() {
+		return isLazy();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLazyWithTimeout() {
+		return VavrMatchers.<Integer>isLazy(5).withTimeout(1, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLazyValue() {
+		return isLazy(5);
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLazyMatcher() {
+		return isLazy(equalTo(5));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsLazyPredicate() {
+		return isLazyMatching("equals 5", (Integer v) -> v == 5);
+	}
+
+	// endregion
+
+	// region Success path
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLazy() {
+		return isLazy.matches(five);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLazyWithTimeout() {
+		return isLazyWithTimeout.matches(five);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLazyValue() {
+		return isLazyValue.matches(five);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLazyMatcher() {
+		return isLazyMatcher.matches(five);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsLazyPredicate() {
+		return isLazyPredicate.matches(five);
+	}
+
+	// endregion
+
+	// region Mismatch path
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLazy() {
+		return Mismatches.failedAssertion(isLazy, four);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLazyWithTimeout() {
+		return Mismatches.failedAssertion(isLazyWithTimeout, four);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLazyValue() {
+		return Mismatches.failedAssertion(isLazyValue, four);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLazyMatcher() {
+		return Mismatches.failedAssertion(isLazyMatcher, four);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsLazyPredicate() {
+		return Mismatches.failedAssertion(isLazyPredicate, four);
+	}
+
+	// endregion
+}
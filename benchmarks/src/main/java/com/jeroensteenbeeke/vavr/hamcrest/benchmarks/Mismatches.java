@@ -0,0 +1,33 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Replays what {@code MatcherAssert.assertThat} does for a failing assertion, without throwing
+ */
+final class Mismatches {
+	private Mismatches() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Matches the given item, and if it does not match builds the same message a failed assertion would
+	 *
+	 * @param matcher The matcher to apply
+	 * @param item    The item to match
+	 * @return The assertion message, or an empty String if the item unexpectedly matches
+	 */
+	static String failedAssertion(Matcher<?> matcher, Object item) {
+		if (matcher.matches(item)) {
+			return "";
+		}
+
+		Description description = new StringDescription();
+		description.appendText("\nExpected: ").appendDescriptionOf(matcher).appendText("\n     but: ");
+		matcher.describeMismatch(item, description);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,177 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import io.vavr.control.Option;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers.*;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Construction, match and mismatch cost of the Option matchers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionMatcherBenchmark {
+	private final Option<String> some = Option.some("A");
+
+	private final Option<String> other = Option.some("B");
+
+	private final Option<String> none = Option.none();
+
+	private final Matcher<Option<?>> isSome = isSome();
+
+	private final Matcher<Option<?>> isNone = isNone();
+
+	private final Matcher<Option<String>> isSomeValue = isSome("A");
+
+	private final Matcher<Option<String>> isSomeMatcher = isSome(equalTo("A"));
+
+	private final Matcher<Option<String>> isSomePredicate = isDefinedOption("starts with A", (String s) -> s.startsWith("A"));
+
+	// region Construction
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSome() {
+		return isSome();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsNone() {
+		return isNone();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSomeValue() {
+		return isSome("A");
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSomeMatcher() {
+		return isSome(equalTo("A"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSomePredicate() {
+		return isDefinedOption("starts with A", (String s) -> s.startsWith("A"));
+	}
+
+	// endregion
+
+	// region Success path
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSome() {
+		return isSome.matches(some);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsNone() {
+		return isNone.matches(none);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSomeValue() {
+		return isSomeValue.matches(some);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSomeMatcher() {
+		return isSomeMatcher.matches(some);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSomePredicate() {
+		return isSomePredicate.matches(some);
+	}
+
+	// endregion
+
+	// region Mismatch path
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSome() {
+		return Mismatches.failedAssertion(isSome, none);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsNone() {
+		return Mismatches.failedAssertion(isNone, some);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSomeValue() {
+		return Mismatches.failedAssertion(isSomeValue, other);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSomeMatcher() {
+		return Mismatches.failedAssertion(isSomeMatcher, other);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSomePredicate() {
+		return Mismatches.failedAssertion(isSomePredicate, other);
+	}
+
+	// endregion
+}
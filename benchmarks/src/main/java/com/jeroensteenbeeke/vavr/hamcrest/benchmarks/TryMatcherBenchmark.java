@@ -0,0 +1,258 @@
+package com.jeroensteenbeeke.vavr.hamcrest.benchmarks;
+
+import io.vavr.control.Try;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers.*;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+
+/**
+ * Construction, match and mismatch cost of the Try matchers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryMatcherBenchmark {
+	private final Try<String> success = Try.success("S");
+
+	private final Try<String> otherSuccess = Try.success("X");
+
+	private final Try<String> failure = Try.failure(new IllegalStateException("Illegal State"));
+
+	private final Try<String> otherFailure = Try.failure(new IllegalArgumentException("Illegal Argument"));
+
+	private final Matcher<Try<?>> isSuccess = isSuccess();
+
+	private final Matcher<Try<String>> isSuccessValue = isSuccess("S");
+
+	private final Matcher<Try<String>> isSuccessMatcher = isSuccess(equalTo("S"));
+
+	private final Matcher<Try<String>> isSuccessPredicate = isSuccess("starts with S", (String s) -> s.startsWith("S"));
+
+	private final Matcher<Try<?>> isFailure = isFailure();
+
+	private final Matcher<Try<?>> isFailureOfType = isFailure(IllegalStateException.class);
+
+	private final Matcher<Try<?>> isFailureMatcher = isFailure(instanceOf(IllegalStateException.class));
+
+	private final Matcher<Try<?>> isFailurePredicate = isFailure("is a runtime exception", t -> t instanceof IllegalStateException);
+
+	// region Construction
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSuccess() {
+		return isSuccess();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSuccessValue() {
+		return isSuccess("S");
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSuccessMatcher() {
+		return isSuccess(equalTo("S"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsSuccessPredicate() {
+		return isSuccess("starts with S", (String s) -> s.startsWith("S"));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailure() {
+		return isFailure();
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailureOfType() {
+		return isFailure(IllegalStateException.class);
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailureMatcher() {
+		return isFailure(instanceOf(IllegalStateException.class));
+	}
+
+	/**
+	 * @return A new matcher
+	 */
+	@Benchmark
+	public Matcher<?> constructIsFailurePredicate() {
+		return isFailure("is a runtime exception", t -> t instanceof IllegalStateException);
+	}
+
+	// endregion
+
+	// region Success path
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSuccess() {
+		return isSuccess.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSuccessValue() {
+		return isSuccessValue.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSuccessMatcher() {
+		return isSuccessMatcher.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsSuccessPredicate() {
+		return isSuccessPredicate.matches(success);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailure() {
+		return isFailure.matches(failure);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailureOfType() {
+		return isFailureOfType.matches(failure);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailureMatcher() {
+		return isFailureMatcher.matches(failure);
+	}
+
+	/**
+	 * @return The match result
+	 */
+	@Benchmark
+	public boolean matchIsFailurePredicate() {
+		return isFailurePredicate.matches(failure);
+	}
+
+	// endregion
+
+	// region Mismatch path
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSuccess() {
+		return Mismatches.failedAssertion(isSuccess, failure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSuccessValue() {
+		return Mismatches.failedAssertion(isSuccessValue, otherSuccess);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSuccessMatcher() {
+		return Mismatches.failedAssertion(isSuccessMatcher, otherSuccess);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsSuccessPredicate() {
+		return Mismatches.failedAssertion(isSuccessPredicate, otherSuccess);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailure() {
+		return Mismatches.failedAssertion(isFailure, success);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailureOfType() {
+		return Mismatches.failedAssertion(isFailureOfType, otherFailure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailureMatcher() {
+		return Mismatches.failedAssertion(isFailureMatcher, otherFailure);
+	}
+
+	/**
+	 * @return The mismatch description
+	 */
+	@Benchmark
+	public String mismatchIsFailurePredicate() {
+		return Mismatches.failedAssertion(isFailurePredicate, otherFailure);
+	}
+
+	// endregion
+}
@@ -0,0 +1,191 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.BitSet;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for matchers of Vavr's BitSet of integers. Vavr keeps the words of a BitSet to itself, so the matchers
+ * hold the expected bits in a {@link java.util.BitSet}, walk them with {@code nextSetBit}, and probe the matched
+ * BitSet with {@code contains}, which looks up a single word, or misses at once for a bit past its words. The
+ * elements of the matched BitSet are never iterated, so none of them are converted back to an Integer.
+ * {@code contains} only accepts an Integer, so each expected bit outside the range of the Integer cache is boxed when
+ * it is looked up: the cost depends on the number of expected bits, not on the size of the matched BitSet.
+ *
+ * @param <S> The type of BitSet matched
+ */
+abstract class BitSetMatcher<S extends BitSet<?>> extends TypeSafeDiagnosingMatcher<S> {
+	BitSetMatcher() {
+		super(BitSet.class);
+	}
+
+	/**
+	 * Creates a Java BitSet with the given bits set
+	 *
+	 * @param bits The bits to set
+	 * @return A Java BitSet
+	 * @throws IllegalArgumentException If any of the bits is negative
+	 */
+	@NotNull
+	static java.util.BitSet toBits(@NotNull int[] bits) {
+		java.util.BitSet result = new java.util.BitSet();
+
+		for (int bit : bits) {
+			if (bit < 0) {
+				throw new IllegalArgumentException("bits must not be negative, but found " + bit);
+			}
+			result.set(bit);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Describes the given bits, up to the maximum number of elements of the global {@link RenderBudget}
+	 *
+	 * @param bits        The bits to describe
+	 * @param description The description to append to
+	 */
+	static void describeBits(@NotNull java.util.BitSet bits, @NotNull Description description) {
+		int remaining = RenderBudget.global().getMaxElements();
+
+		String separator = "";
+
+		description.appendText("{");
+		for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+			if (remaining-- == 0) {
+				description.appendText(", ...} (").appendText(String.valueOf(bits.cardinality()))
+						.appendText(" bits)");
+				return;
+			}
+			description.appendText(separator).appendText(String.valueOf(bit));
+			separator = ", ";
+		}
+		description.appendText("}");
+	}
+
+	/**
+	 * Describes a BitSet with or without the given bit
+	 *
+	 * @param expected            The matcher that was not satisfied
+	 * @param bit                 The bit
+	 * @param present             Whether the bit is set in the BitSet
+	 * @param mismatchDescription The description to append to
+	 */
+	static void describeBit(
+			@NotNull BitSetMatcher<?> expected, int bit, boolean present, @NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, "BitSet", MatchResult.Kind.VALUE_MISMATCH, expected, bit);
+		mismatchDescription.appendText(present ? "is a BitSet with bit " : "is a BitSet without bit ")
+				.appendText(String.valueOf(bit));
+	}
+
+	/**
+	 * Matches a BitSet in which all of the given bits are set
+	 */
+	static final class ContainsAll extends BitSetMatcher<BitSet<Integer>> {
+		private final java.util.BitSet bits;
+
+		private final int cardinality;
+
+		ContainsAll(@NotNull java.util.BitSet bits) {
+			this.bits = bits;
+			this.cardinality = bits.cardinality();
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull BitSet<Integer> subject, @NotNull Description mismatchDescription) {
+			if (cardinality == 0) {
+				return true;
+			}
+
+			if (subject.size() < cardinality) {
+				int actual = subject.size();
+
+				MatchResult.report(mismatchDescription, "BitSet", MatchResult.Kind.VALUE_MISMATCH, this, actual);
+				mismatchDescription.appendText("is a BitSet of cardinality ").appendText(String.valueOf(actual));
+
+				return false;
+			}
+
+			for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+				if (!subject.contains(bit)) {
+					describeBit(this, bit, false, mismatchDescription);
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a BitSet containing the bits ");
+			describeBits(bits, description);
+		}
+	}
+
+	/**
+	 * Matches a BitSet in which none of the given bits are set
+	 */
+	static final class DisjointFrom extends BitSetMatcher<BitSet<Integer>> {
+		private final java.util.BitSet bits;
+
+		DisjointFrom(@NotNull java.util.BitSet bits) {
+			this.bits = bits;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull BitSet<Integer> subject, @NotNull Description mismatchDescription) {
+			if (subject.isEmpty()) {
+				return true;
+			}
+
+			for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+				if (subject.contains(bit)) {
+					describeBit(this, bit, true, mismatchDescription);
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a BitSet without any of the bits ");
+			describeBits(bits, description);
+		}
+	}
+
+	/**
+	 * Matches a BitSet with the given number of bits set. Vavr keeps the number of bits in every BitSet, so no words
+	 * are visited
+	 */
+	static final class Cardinality extends BitSetMatcher<BitSet<?>> {
+		private final int cardinality;
+
+		Cardinality(int cardinality) {
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull BitSet<?> subject, @NotNull Description mismatchDescription) {
+			int actual = subject.size();
+
+			if (actual == cardinality) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "BitSet", MatchResult.Kind.VALUE_MISMATCH, cardinality, actual);
+			mismatchDescription.appendText("is a BitSet of cardinality ").appendText(String.valueOf(actual));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a BitSet of cardinality ").appendText(String.valueOf(cardinality));
+		}
+	}
+}
@@ -0,0 +1,309 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.collection.Traversable;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A value that renders itself like {@link Description#appendValue(Object)} does, but within the limits of the
+ * global {@link RenderBudget}. Collections and Vavr containers are rendered element by element, in the same
+ * format as their {@code toString()}, so {@code toString()} is never invoked on anything that may be large.
+ * <p>
+ * Since Hamcrest's {@code NullDescription} ignores {@link Description#appendDescriptionOf(SelfDescribing)},
+ * nothing is rendered at all while a matcher is only matching.
+ */
+final class BoundedValue implements SelfDescribing {
+	private static final String ELLIPSIS = "...";
+
+	private final Object value;
+
+	private BoundedValue(@Nullable Object value) {
+		this.value = value;
+	}
+
+	/**
+	 * Wraps the given value for rendering within the global budget
+	 *
+	 * @param value The value to render
+	 * @return A SelfDescribing that renders the value
+	 */
+	@NotNull
+	static SelfDescribing of(@Nullable Object value) {
+		return new BoundedValue(value);
+	}
+
+	@Override
+	public void describeTo(@NotNull Description description) {
+		RenderBudget budget = RenderBudget.global();
+
+		if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum || value instanceof Class) {
+			description.appendValue(value);
+		} else if (value instanceof CharSequence) {
+			describeCharSequence((CharSequence) value, budget, description);
+		} else if (value.getClass().isArray()) {
+			describeArray(budget, description);
+		} else if (isContainer(value)) {
+			Renderer renderer = new Renderer(description, budget);
+
+			description.appendText("<");
+			renderer.render(value, 0);
+			description.appendText(">");
+
+			if (renderer.truncated) {
+				describeSummary(value, description);
+			}
+		} else {
+			describeCharSequence(String.valueOf(value), budget, description, "<", ">");
+		}
+	}
+
+	private static void describeCharSequence(
+			@NotNull CharSequence chars, @NotNull RenderBudget budget, @NotNull Description description) {
+		if (chars instanceof String) {
+			String string = (String) chars;
+
+			if (string.length() <= budget.getMaxCharacters()) {
+				description.appendValue(string);
+			} else {
+				description.appendValue(string.substring(0, budget.getMaxCharacters()) + ELLIPSIS);
+				description.appendText(String.format(" (length %d, hash 0x%08x)", string.length(), string.hashCode()));
+			}
+		} else {
+			describeCharSequence(chars, budget, description, "<", ">");
+		}
+	}
+
+	private static void describeCharSequence(
+			@NotNull CharSequence chars, @NotNull RenderBudget budget, @NotNull Description description,
+			@NotNull String open, @NotNull String close) {
+		if (chars.length() <= budget.getMaxCharacters()) {
+			description.appendText(open).appendText(chars.toString()).appendText(close);
+		} else {
+			description.appendText(open).appendText(chars.subSequence(0, budget.getMaxCharacters()).toString())
+					.appendText(ELLIPSIS).appendText(close);
+			description.appendText(String.format(" (length %d, hash 0x%08x)", chars.length(), chars.hashCode()));
+		}
+	}
+
+	private void describeArray(@NotNull RenderBudget budget, @NotNull Description description) {
+		int length = Array.getLength(value);
+
+		if (length <= budget.getMaxElements()) {
+			description.appendValue(value);
+		} else {
+			description.appendText("[");
+			for (int i = 0; i < budget.getMaxElements(); i++) {
+				description.appendDescriptionOf(of(Array.get(value, i))).appendText(", ");
+			}
+			description.appendText(ELLIPSIS).appendText("]");
+			description.appendText(String.format(" (length %d)", length));
+		}
+	}
+
+	private static void describeSummary(@NotNull Object value, @NotNull Description description) {
+		if (value instanceof Traversable) {
+			Traversable<?> traversable = (Traversable<?>) value;
+
+			if (!traversable.isLazy() && traversable.hasDefiniteSize()) {
+				description.appendText(String.format(" (size %d, hash 0x%08x)", traversable.size(),
+						traversable.hashCode()));
+			}
+		} else if (value instanceof Collection) {
+			description.appendText(String.format(" (size %d, hash 0x%08x)", ((Collection<?>) value).size(),
+					value.hashCode()));
+		} else if (value instanceof Map) {
+			description.appendText(String.format(" (size %d, hash 0x%08x)", ((Map<?, ?>) value).size(),
+					value.hashCode()));
+		}
+	}
+
+	private static boolean isContainer(@Nullable Object value) {
+		return (value instanceof Traversable && !(value instanceof CharSequence)) || value instanceof Collection
+				|| value instanceof Map || value instanceof Option || value instanceof Either
+				|| value instanceof Try || value instanceof Lazy || value instanceof Future || value instanceof Tuple;
+	}
+
+	/**
+	 * Renders nested values, keeping track of the characters written
+	 */
+	private static final class Renderer {
+		private final Description description;
+
+		private final RenderBudget budget;
+
+		private int remaining;
+
+		private boolean truncated;
+
+		private Renderer(@NotNull Description description, @NotNull RenderBudget budget) {
+			this.description = description;
+			this.budget = budget;
+			this.remaining = budget.getMaxCharacters();
+		}
+
+		private void render(@Nullable Object value, int depth) {
+			if (remaining <= 0) {
+				truncated = true;
+			} else if (!isContainer(value)) {
+				emit(String.valueOf(value));
+			} else if (depth >= budget.getMaxDepth()) {
+				emit(ELLIPSIS);
+				truncated = true;
+			} else if (value instanceof Traversable) {
+				renderTraversable((Traversable<?>) value, depth);
+			} else if (value instanceof Collection) {
+				renderElements("[", ((Collection<?>) value).iterator(), "]", depth);
+			} else if (value instanceof Map) {
+				renderEntries((Map<?, ?>) value, depth);
+			} else if (value instanceof Option) {
+				Option<?> option = (Option<?>) value;
+				if (option.isDefined()) {
+					renderSingle("Some(", option.get(), depth);
+				} else {
+					emit("None");
+				}
+			} else if (value instanceof Either) {
+				Either<?, ?> either = (Either<?, ?>) value;
+				if (either.isRight()) {
+					renderSingle("Right(", either.get(), depth);
+				} else {
+					renderSingle("Left(", either.getLeft(), depth);
+				}
+			} else if (value instanceof Try) {
+				Try<?> attempt = (Try<?>) value;
+				if (attempt.isSuccess()) {
+					renderSingle("Success(", attempt.get(), depth);
+				} else {
+					renderSingle("Failure(", attempt.getCause(), depth);
+				}
+			} else if (value instanceof Lazy) {
+				Lazy<?> lazy = (Lazy<?>) value;
+				if (lazy.isEvaluated()) {
+					renderSingle("Lazy(", lazy.get(), depth);
+				} else {
+					emit("Lazy(?)");
+				}
+			} else if (value instanceof Future) {
+				Option<? extends Try<?>> result = ((Future<?>) value).getValue();
+				if (result.isDefined()) {
+					renderSingle("Future(", result.get(), depth);
+				} else {
+					emit("Future(?)");
+				}
+			} else {
+				renderElements("(", ((Tuple) value).toSeq().iterator(), ")", depth);
+			}
+		}
+
+		private void renderTraversable(@NotNull Traversable<?> traversable, int depth) {
+			if (traversable instanceof io.vavr.collection.Iterator) {
+				// Rendering the elements would consume them
+				emit(traversable.stringPrefix() + "(?)");
+			} else if (traversable.isLazy()) {
+				// Only the head is known to be evaluated, don't force the rest
+				if (traversable.isEmpty()) {
+					emit(traversable.stringPrefix() + "()");
+				} else {
+					emit(traversable.stringPrefix() + "(");
+					render(traversable.head(), depth + 1);
+					close(", ?)");
+				}
+			} else {
+				renderElements(traversable.stringPrefix() + "(", traversable.iterator(), ")", depth);
+			}
+		}
+
+		private void renderSingle(@NotNull String open, @Nullable Object element, int depth) {
+			emit(open);
+			render(element, depth + 1);
+			close(")");
+		}
+
+		private void renderElements(
+				@NotNull String open, @NotNull Iterator<?> elements, @NotNull String close, int depth) {
+			emit(open);
+
+			int count = 0;
+			while (elements.hasNext() && remaining > 0) {
+				if (count == budget.getMaxElements()) {
+					emit(", " + ELLIPSIS);
+					truncated = true;
+					break;
+				}
+				if (count > 0) {
+					emit(", ");
+				}
+
+				render(elements.next(), depth + 1);
+				count++;
+			}
+
+			if (elements.hasNext() && remaining <= 0) {
+				truncated = true;
+				close(ELLIPSIS);
+			}
+
+			close(close);
+		}
+
+		private void renderEntries(@NotNull Map<?, ?> map, int depth) {
+			emit("{");
+
+			int count = 0;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (remaining <= 0) {
+					truncated = true;
+					close(ELLIPSIS);
+					break;
+				}
+				if (count == budget.getMaxElements()) {
+					emit(", " + ELLIPSIS);
+					truncated = true;
+					break;
+				}
+				if (count > 0) {
+					emit(", ");
+				}
+
+				render(entry.getKey(), depth + 1);
+				emit("=");
+				render(entry.getValue(), depth + 1);
+				count++;
+			}
+
+			close("}");
+		}
+
+		private void emit(@NotNull String text) {
+			if (remaining <= 0) {
+				truncated = true;
+			} else if (text.length() > remaining) {
+				description.appendText(text.substring(0, remaining)).appendText(ELLIPSIS);
+				remaining = 0;
+				truncated = true;
+			} else {
+				description.appendText(text);
+				remaining -= text.length();
+			}
+		}
+
+		private void close(@NotNull String text) {
+			// Closing brackets do not count towards the budget, so the structure stays readable
+			description.appendText(text);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * The rendered description of a matcher, for matchers whose description never changes. Matchers are immutable, so
+ * the text only has to be built the first time the matcher is described, and can be reused by every assertion after
+ * that. Since values are rendered within the global {@link RenderBudget}, the text is rendered again when the budget
+ * is replaced.
+ * <p>
+ * Matchers that delegate to an inner matcher should only cache their own part of the description: the description
+ * of the inner matcher is not under our control, and may change between calls.
+ */
+final class CachedDescription {
+	private final RenderBudget budget;
+
+	private final String text;
+
+	private CachedDescription(@NotNull RenderBudget budget, @NotNull String text) {
+		this.budget = budget;
+		this.text = text;
+	}
+
+	/**
+	 * Appends the cached text to the given description, rendering it first if there is no usable cached text
+	 *
+	 * @param description The description to append to
+	 * @param cached      The previously cached text, if any
+	 * @param renderer    Renders the text when it is not cached yet
+	 * @return The cached text, to be stored by the matcher for its next description
+	 */
+	@Nullable
+	static CachedDescription appendTo(
+			@NotNull Description description, @Nullable CachedDescription cached,
+			@NotNull Consumer<Description> renderer) {
+		if (description instanceof Description.NullDescription) {
+			return cached;
+		}
+
+		RenderBudget budget = RenderBudget.global();
+
+		if (cached == null || cached.budget != budget) {
+			StringDescription rendered = new StringDescription();
+			renderer.accept(rendered);
+			cached = new CachedDescription(budget, rendered.toString());
+		}
+
+		description.appendText(cached.text);
+
+		return cached;
+	}
+}
@@ -0,0 +1,214 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.CharSeq;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Base class for matchers of Vavr's CharSeq. The characters are read with {@code charAt}, so the CharSeq is never
+ * converted to a String, and mismatch descriptions render it within the global {@link RenderBudget}. A failed search
+ * is remembered, so describing the mismatch does not search a large CharSeq a second time.
+ *
+ * @param <S> The type of CharSeq matched
+ */
+abstract class CharSeqMatcher<S extends CharSeq> extends TypeSafeDiagnosingMatcher<S> {
+	CharSeqMatcher() {
+		super(CharSeq.class);
+	}
+
+	/**
+	 * Describes a CharSeq that does not match
+	 *
+	 * @param subject             The CharSeq that was matched
+	 * @param expected            The matcher that was not satisfied
+	 * @param mismatchDescription The description to append to
+	 * @return The description
+	 */
+	@NotNull
+	static Description describeCharSeq(
+			@NotNull CharSeq subject, @NotNull CharSeqMatcher<?> expected, @NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, "CharSeq", MatchResult.Kind.VALUE_MISMATCH, expected, subject);
+		return mismatchDescription.appendText("is a CharSeq ").appendDescriptionOf(BoundedValue.of(subject));
+	}
+
+	/**
+	 * Determines whether the given characters occur in the CharSeq at the given offset
+	 *
+	 * @param subject The CharSeq to check
+	 * @param chars   The characters that should occur
+	 * @param offset  The index in the CharSeq of the first character
+	 * @return {@code true} if the characters occur at the offset
+	 */
+	static boolean regionMatches(@NotNull CharSeq subject, @NotNull String chars, int offset) {
+		if (offset < 0 || offset + chars.length() > subject.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < chars.length(); i++) {
+			if (subject.charAt(offset + i) != chars.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Matches a CharSeq that contains the given substring. The substring is searched for with the Boyer-Moore-Horspool
+	 * algorithm, using a shift table that is computed once, when the matcher is created. To keep the table small,
+	 * characters share one of 256 entries by their lowest byte, each holding the smallest shift of the characters
+	 * that share it
+	 */
+	static final class ContainsSubstring extends CharSeqMatcher<CharSeq> {
+		private final String substring;
+
+		private final int[] shifts;
+
+		private final MatchMemo<CharSeq, Boolean> misses = new MatchMemo<>();
+
+		ContainsSubstring(@NotNull String substring) {
+			this.substring = substring;
+			this.shifts = new int[256];
+
+			int last = substring.length() - 1;
+			Arrays.fill(shifts, substring.length());
+			for (int i = 0; i < last; i++) {
+				shifts[substring.charAt(i) & 0xFF] = last - i;
+			}
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull CharSeq subject, @NotNull Description mismatchDescription) {
+			if (misses.recall(subject, mismatchDescription) == null) {
+				if (indexIn(subject) >= 0) {
+					misses.forget();
+					return true;
+				}
+
+				misses.rememberFailure(subject, Boolean.TRUE, mismatchDescription);
+			}
+
+			describeCharSeq(subject, this, mismatchDescription).appendText(" without substring ")
+					.appendDescriptionOf(BoundedValue.of(substring));
+
+			return false;
+		}
+
+		private int indexIn(@NotNull CharSeq subject) {
+			if (substring.isEmpty()) {
+				return 0;
+			}
+
+			int last = substring.length() - 1;
+
+			for (int offset = 0; offset + last < subject.length(); ) {
+				int i = last;
+
+				while (subject.charAt(offset + i) == substring.charAt(i)) {
+					if (i == 0) {
+						return offset;
+					}
+					i--;
+				}
+
+				offset += shifts[subject.charAt(offset + last) & 0xFF];
+			}
+
+			return -1;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a CharSeq containing ").appendDescriptionOf(BoundedValue.of(substring));
+		}
+	}
+
+	/**
+	 * Matches a CharSeq that starts or ends with the given characters. Only as many characters as there are in the
+	 * prefix or suffix are compared
+	 */
+	static final class Affix extends CharSeqMatcher<CharSeq> {
+		private final String affix;
+
+		private final boolean suffix;
+
+		Affix(@NotNull String affix, boolean suffix) {
+			this.affix = affix;
+			this.suffix = suffix;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull CharSeq subject, @NotNull Description mismatchDescription) {
+			int offset = suffix ? subject.length() - affix.length() : 0;
+
+			if (regionMatches(subject, affix, offset)) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "CharSeq", MatchResult.Kind.VALUE_MISMATCH, affix, subject);
+			if (affix.length() >= subject.length()) {
+				mismatchDescription.appendText("is a CharSeq ").appendDescriptionOf(BoundedValue.of(subject));
+			} else {
+				CharSequence actual = suffix ? subject.subSequence(offset) : subject.subSequence(0, affix.length());
+
+				mismatchDescription.appendText(suffix ? "is a CharSeq ending with " : "is a CharSeq starting with ")
+						.appendDescriptionOf(BoundedValue.of(actual.toString()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText(suffix ? "is a CharSeq ending with " : "is a CharSeq starting with ")
+					.appendDescriptionOf(BoundedValue.of(affix));
+		}
+	}
+
+	/**
+	 * Matches a CharSeq against a regular expression that was compiled once. The pattern either has to match the
+	 * entire CharSeq, or be found anywhere in it
+	 */
+	static final class MatchesPattern extends CharSeqMatcher<CharSeq> {
+		private final Pattern pattern;
+
+		private final boolean find;
+
+		private final MatchMemo<CharSeq, Boolean> misses = new MatchMemo<>();
+
+		MatchesPattern(@NotNull Pattern pattern, boolean find) {
+			this.pattern = pattern;
+			this.find = find;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull CharSeq subject, @NotNull Description mismatchDescription) {
+			if (misses.recall(subject, mismatchDescription) == null) {
+				java.util.regex.Matcher matcher = pattern.matcher(subject);
+
+				if (find ? matcher.find() : matcher.matches()) {
+					misses.forget();
+					return true;
+				}
+
+				misses.rememberFailure(subject, Boolean.TRUE, mismatchDescription);
+			}
+
+			describeCharSeq(subject, this, mismatchDescription)
+					.appendText(find ? " without a match for pattern " : " not matching pattern ")
+					.appendDescriptionOf(BoundedValue.of(pattern.pattern()));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText(find ? "is a CharSeq containing a match for " : "is a CharSeq matching ")
+					.appendText("pattern ").appendDescriptionOf(BoundedValue.of(pattern.pattern()));
+		}
+	}
+}
@@ -0,0 +1,457 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.control.Either;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Base class for matchers of Vavr's Either. Passes the expected type to Hamcrest explicitly, so constructing
+ * a matcher does not require a reflective lookup of the {@code matchesSafely} signature
+ *
+ * @param <E> The type of Either matched
+ */
+abstract class EitherMatcher<E extends Either<?, ?>> extends TypeSafeDiagnosingMatcher<E> {
+	EitherMatcher() {
+		super(Either.class);
+	}
+
+	/**
+	 * Matches an Either that is a Left (error)
+	 */
+	static final class Left extends EitherMatcher<Either<?, ?>> {
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isLeft()) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.WRONG_VARIANT, this, subject);
+			mismatchDescription.appendText("is a right Either, with value ")
+					.appendDescriptionOf(BoundedValue.of(subject.get()));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a left Either");
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Left (error), with the given value
+	 *
+	 * @param <T> The type contained in the Either
+	 */
+	static final class LeftWithValue<T> extends EitherMatcher<Either<T, ?>> {
+		private final T expectedValue;
+
+		private final Equivalence<? super T> equivalence;
+
+		private volatile CachedDescription cachedDescription;
+
+		LeftWithValue(@NotNull T expectedValue, @Nullable Equivalence<? super T> equivalence) {
+			this.expectedValue = expectedValue;
+			this.equivalence = equivalence;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<T, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isLeft()) {
+				T actualValue = subject.getLeft();
+
+				if (Equivalence.test(equivalence, expectedValue, actualValue)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.VALUE_MISMATCH,
+							expectedValue, actualValue);
+					mismatchDescription.appendText("is a left Either, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a right Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a left Either, with value ").appendDescriptionOf(BoundedValue.of(expectedValue));
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Left (error), with the given matcher
+	 *
+	 * @param <T> The type contained in the Either
+	 */
+	static final class LeftMatching<T> extends EitherMatcher<Either<T, ?>> {
+		private final Matcher<T> matcher;
+
+		private final MatchMemo<Either<T, ?>, Boolean> innerResults = new MatchMemo<>();
+
+		LeftMatching(@NotNull Matcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<T, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isLeft()) {
+				T actualValue = subject.getLeft();
+
+				if (MatchMemo.matchesInner(innerResults, subject, matcher, actualValue, mismatchDescription)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.VALUE_MISMATCH,
+							matcher, actualValue);
+					mismatchDescription.appendText("is a left Either, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue))
+							.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a right Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a left Either, matching ");
+			matcher.describeTo(description);
+		}
+	}
+
+	/**
+	 * Matches a left Either with a value matching the given Predicate
+	 *
+	 * @param <T> The type of value that should be in the Either
+	 */
+	static final class LeftMatchingPredicate<T> extends EitherMatcher<Either<T, ?>> {
+		private final String predicateDescription;
+
+		private final Predicate<T> predicate;
+
+		private volatile CachedDescription cachedDescription;
+
+		LeftMatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+			this.predicateDescription = predicateDescription;
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<T, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isLeft()) {
+				T actualValue = subject.getLeft();
+
+				if (predicate.test(actualValue)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.VALUE_MISMATCH, this, actualValue);
+					mismatchDescription.appendText("is a left Either, with a value not matching ")
+							.appendDescriptionOf(BoundedValue.of(predicateDescription)).appendText(", because the value is equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a right Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a left Either, with a value matching ")
+					.appendDescriptionOf(BoundedValue.of(predicateDescription));
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Left, with a number that passes the given primitive check
+	 */
+	static final class LeftWithPrimitive extends EitherMatcher<Either<?, ?>> {
+		private final PrimitiveValue<?> check;
+
+		private volatile CachedDescription cachedDescription;
+
+		LeftWithPrimitive(@NotNull PrimitiveValue<?> check) {
+			this.check = check;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isLeft()) {
+				Object actualValue = subject.getLeft();
+
+				if (check.test(actualValue)) {
+					return true;
+				} else if (check.isPredicate()) {
+					MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.VALUE_MISMATCH, this, actualValue);
+					mismatchDescription.appendText("is a left Either, with a value not matching ")
+							.appendDescriptionOf(check).appendText(", because the value is equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				} else {
+					MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.VALUE_MISMATCH,
+							check.expectation(), actualValue);
+					mismatchDescription.appendText("is a left Either, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a right Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText(check.isPredicate() ? "is a left Either, with a value matching "
+					: "is a left Either, with value ").appendDescriptionOf(check);
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Right (success)
+	 */
+	static final class Right extends EitherMatcher<Either<?, ?>> {
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isRight()) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.WRONG_VARIANT, this, subject);
+			mismatchDescription.appendText("is a left Either, with value ")
+					.appendDescriptionOf(BoundedValue.of(subject.getLeft()));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a right Either");
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Right (success), with the given value
+	 *
+	 * @param <T> The type contained in the Either
+	 */
+	static final class RightWithValue<T> extends EitherMatcher<Either<?, T>> {
+		private final T expectedValue;
+
+		private final Equivalence<? super T> equivalence;
+
+		private volatile CachedDescription cachedDescription;
+
+		RightWithValue(@NotNull T expectedValue, @Nullable Equivalence<? super T> equivalence) {
+			this.expectedValue = expectedValue;
+			this.equivalence = equivalence;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isRight()) {
+				T actualValue = subject.get();
+
+				if (Equivalence.test(equivalence, expectedValue, actualValue)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.VALUE_MISMATCH,
+							expectedValue, actualValue);
+					mismatchDescription.appendText("is a right Either, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a left Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.getLeft()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a right Either, with value ").appendDescriptionOf(BoundedValue.of(expectedValue));
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Right (success), with the given matcher
+	 *
+	 * @param <T> The type contained in the Either
+	 */
+	static final class RightMatching<T> extends EitherMatcher<Either<?, T>> {
+		private final Matcher<T> matcher;
+
+		private final MatchMemo<Either<?, T>, Boolean> innerResults = new MatchMemo<>();
+
+		RightMatching(@NotNull Matcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isRight()) {
+				T actualValue = subject.get();
+
+				if (MatchMemo.matchesInner(innerResults, subject, matcher, actualValue, mismatchDescription)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.VALUE_MISMATCH,
+							matcher, actualValue);
+					mismatchDescription.appendText("is a right Either, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue))
+							.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a left Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.getLeft()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a right Either, matching ");
+			matcher.describeTo(description);
+		}
+	}
+
+	/**
+	 * Matches a right Either with a value matching the given Predicate
+	 *
+	 * @param <T> The type of value that should be in the Either
+	 */
+	static final class RightMatchingPredicate<T> extends EitherMatcher<Either<?, T>> {
+		private final String predicateDescription;
+
+		private final Predicate<T> predicate;
+
+		private volatile CachedDescription cachedDescription;
+
+		RightMatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+			this.predicateDescription = predicateDescription;
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isRight()) {
+				T actualValue = subject.get();
+
+				if (predicate.test(actualValue)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.VALUE_MISMATCH,
+							this, actualValue);
+					mismatchDescription.appendText("is a right Either, with a value not matching ")
+							.appendDescriptionOf(BoundedValue.of(predicateDescription)).appendText(", because the value is equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a left Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.getLeft()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a right Either, with a value matching ")
+					.appendDescriptionOf(BoundedValue.of(predicateDescription));
+		}
+	}
+
+	/**
+	 * Matches an Either that is a Right, with a number that passes the given primitive check
+	 */
+	static final class RightWithPrimitive extends EitherMatcher<Either<?, ?>> {
+		private final PrimitiveValue<?> check;
+
+		private volatile CachedDescription cachedDescription;
+
+		RightWithPrimitive(@NotNull PrimitiveValue<?> check) {
+			this.check = check;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Either<?, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isRight()) {
+				Object actualValue = subject.get();
+
+				if (check.test(actualValue)) {
+					return true;
+				} else if (check.isPredicate()) {
+					MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.VALUE_MISMATCH, this, actualValue);
+					mismatchDescription.appendText("is a right Either, with a value not matching ")
+							.appendDescriptionOf(check).appendText(", because the value is equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				} else {
+					MatchResult.report(mismatchDescription, "Right", MatchResult.Kind.VALUE_MISMATCH,
+							check.expectation(), actualValue);
+					mismatchDescription.appendText("is a right Either, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Left", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a left Either, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.getLeft()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText(check.isPredicate() ? "is a right Either, with a value matching "
+					: "is a right Either, with value ").appendDescriptionOf(check);
+		}
+	}
+}
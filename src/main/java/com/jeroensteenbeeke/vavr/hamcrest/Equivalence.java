@@ -0,0 +1,208 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.function.BiPredicate;
+
+/**
+ * Decides whether an actual value is equal to the expected value of a matcher. By default the matchers of this library
+ * compare values using {@code equals}, which for large immutable structures can be the most expensive part of an
+ * assertion. An equivalence can be passed to the factory methods that take an expected value, such as
+ * {@link VavrMatchers#isSome(Object, Equivalence)}, or set globally for all matchers that are not given one:
+ *
+ * <pre>{@code
+ * Equivalence<Object> previous = Equivalence.setGlobal(Equivalence.hashCodeFirst());
+ * }</pre>
+ * <p>
+ * The global equivalence is looked up whenever a value is compared, so replacing it affects existing matchers as well.
+ *
+ * @param <T> The type of values compared
+ */
+public abstract class Equivalence<T> {
+	private static final Equivalence<Object> EQUALITY = new Equivalence<Object>() {
+		@Override
+		public boolean equivalent(@NotNull Object expected, @Nullable Object actual) {
+			return expected.equals(actual);
+		}
+	};
+
+	private static final Equivalence<Object> IDENTITY_FIRST = new Equivalence<Object>() {
+		@Override
+		public boolean equivalent(@NotNull Object expected, @Nullable Object actual) {
+			return expected == actual || expected.equals(actual);
+		}
+	};
+
+	private static final Equivalence<Object> HASH_CODE_FIRST = new Equivalence<Object>() {
+		@Override
+		public boolean equivalent(@NotNull Object expected, @Nullable Object actual) {
+			if (expected == actual) {
+				return true;
+			}
+
+			return actual != null && expected.hashCode() == actual.hashCode() && expected.equals(actual);
+		}
+	};
+
+	private static volatile Equivalence<Object> global = EQUALITY;
+
+	/**
+	 * Constructor
+	 */
+	protected Equivalence() {
+	}
+
+	/**
+	 * Determines whether the actual value is equal to the expected value
+	 *
+	 * @param expected The expected value
+	 * @param actual   The actual value
+	 * @return {@code true} if the values are equivalent, {@code false} otherwise
+	 */
+	public abstract boolean equivalent(@NotNull T expected, @Nullable T actual);
+
+	/**
+	 * Returns the equivalence that compares values using {@code equals}. This is the default global equivalence
+	 *
+	 * @return An equivalence
+	 */
+	@NotNull
+	public static Equivalence<Object> equality() {
+		return EQUALITY;
+	}
+
+	/**
+	 * Returns the equivalence that considers values equal if they are the same instance, and compares them using
+	 * {@code equals} otherwise. Since an assertion often compares a value to itself, for example a constant that was
+	 * passed through the code under test, this skips a deep comparison in the common case
+	 *
+	 * @return An equivalence
+	 */
+	@NotNull
+	public static Equivalence<Object> identityFirst() {
+		return IDENTITY_FIRST;
+	}
+
+	/**
+	 * Returns the equivalence that considers values equal if they are the same instance, and otherwise compares their
+	 * hash codes before calling {@code equals}. Values with different hash codes are different without a deep
+	 * comparison. This pays off for values that cache their hash code, such as strings; for values that compute
+	 * their hash code on every call it adds a traversal of both values
+	 *
+	 * @return An equivalence
+	 */
+	@NotNull
+	public static Equivalence<Object> hashCodeFirst() {
+		return HASH_CODE_FIRST;
+	}
+
+	/**
+	 * Returns an equivalence that considers values equal if the given comparator finds them equal
+	 *
+	 * @param comparator The comparator to use
+	 * @param <T>        The type of values compared
+	 * @return An equivalence
+	 */
+	@NotNull
+	public static <T> Equivalence<T> comparing(@NotNull Comparator<? super T> comparator) {
+		return new Equivalence<T>() {
+			@Override
+			public boolean equivalent(@NotNull T expected, @Nullable T actual) {
+				return expected == actual || actual != null && comparator.compare(expected, actual) == 0;
+			}
+		};
+	}
+
+	/**
+	 * Returns an equivalence that considers numbers equal if their values, as doubles, differ by at most the given
+	 * tolerance
+	 *
+	 * @param tolerance The maximum absolute difference
+	 * @return An equivalence
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
+	 */
+	@NotNull
+	public static Equivalence<Number> tolerance(double tolerance) {
+		if (!(tolerance >= 0.0)) {
+			throw new IllegalArgumentException("tolerance must be a non-negative number, but is " + tolerance);
+		}
+
+		return new Equivalence<Number>() {
+			@Override
+			public boolean equivalent(@NotNull Number expected, @Nullable Number actual) {
+				return actual != null && Math.abs(expected.doubleValue() - actual.doubleValue()) <= tolerance;
+			}
+		};
+	}
+
+	/**
+	 * Returns an equivalence that uses the given predicate
+	 *
+	 * @param predicate A predicate that takes the expected and the actual value, in that order
+	 * @param <T>       The type of values compared
+	 * @return An equivalence
+	 */
+	@NotNull
+	public static <T> Equivalence<T> of(@NotNull BiPredicate<? super T, ? super T> predicate) {
+		return new Equivalence<T>() {
+			@Override
+			public boolean equivalent(@NotNull T expected, @Nullable T actual) {
+				return predicate.test(expected, actual);
+			}
+		};
+	}
+
+	/**
+	 * Returns the equivalence used by matchers that are not given one
+	 *
+	 * @return The global equivalence
+	 */
+	@NotNull
+	public static Equivalence<Object> global() {
+		return global;
+	}
+
+	/**
+	 * Replaces the equivalence used by matchers that are not given one
+	 *
+	 * @param equivalence The new global equivalence
+	 * @return The previous global equivalence, so it can be restored
+	 */
+	@NotNull
+	public static Equivalence<Object> setGlobal(@NotNull Equivalence<Object> equivalence) {
+		Equivalence<Object> previous = global;
+		global = equivalence;
+		return previous;
+	}
+
+	/**
+	 * Determines whether the global equivalence agrees with {@code equals}, so a lookup with {@code contains} finds
+	 * exactly the values it considers equivalent
+	 *
+	 * @return {@code true} if the global equivalence is one of the built-in equivalences based on {@code equals}
+	 */
+	static boolean isGlobalEquality() {
+		Equivalence<Object> current = global;
+
+		return current == EQUALITY || current == IDENTITY_FIRST || current == HASH_CODE_FIRST;
+	}
+
+	/**
+	 * Compares the given values using the given equivalence, or the global equivalence if none is given
+	 *
+	 * @param equivalence The equivalence of the matcher, if any
+	 * @param expected    The expected value
+	 * @param actual      The actual value
+	 * @param <T>         The type of values compared
+	 * @return {@code true} if the values are equivalent, {@code false} otherwise
+	 */
+	static <T> boolean test(@Nullable Equivalence<? super T> equivalence, @NotNull T expected, @Nullable T actual) {
+		if (equivalence == null) {
+			return global.equivalent(expected, actual);
+		}
+
+		return equivalence.equivalent(expected, actual);
+	}
+}
@@ -22,6 +22,10 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	protected final long timeoutAmount;
 	protected final TimeUnit timeoutUnit;
 
+	private volatile String timeoutDescription;
+
+	private final MatchMemo<Future<T>, Future<T>> awaited = new MatchMemo<>();
+
 	/**
 	 * Constructor
 	 *
@@ -29,6 +33,7 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 * @param timeoutUnit The type of time unit to wait for execution to complete
 	 */
 	protected FutureMatcher(long timeoutAmount, @Nullable TimeUnit timeoutUnit) {
+		super(Future.class);
 		this.timeoutAmount = timeoutAmount;
 		this.timeoutUnit = timeoutUnit;
 	}
@@ -67,29 +72,61 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 	@Override
 	protected final boolean matchesSafely(@NotNull Future<T> providedFuture, @NotNull Description mismatchDescription) {
-
-		Future<T> awaitedFuture;
-
-		if (timeoutUnit == null) {
-			// Ignore timeout
-			awaitedFuture = providedFuture.await();
-		} else if (timeoutAmount <= 0) {
+		if (timeoutUnit != null && timeoutAmount <= 0) {
 			// Someone didn't read the manual
 			mismatchDescription.appendText("invalid parameter timeoutAmount, must be positive, but is ")
-					.appendValue(timeoutAmount);
+					.appendDescriptionOf(BoundedValue.of(timeoutAmount));
 			return false;
+		}
+
+		Future<T> awaitedFuture = awaited.recall(providedFuture, mismatchDescription);
+
+		if (awaitedFuture == null) {
+			if (timeoutUnit == null) {
+				// Ignore timeout
+				awaitedFuture = providedFuture.await();
+			} else {
+				awaitedFuture = providedFuture.await(timeoutAmount, timeoutUnit);
+			}
+		}
+
+		boolean matches = matchesAwaitedFuture(awaitedFuture, mismatchDescription);
+
+		if (matches) {
+			awaited.forget();
 		} else {
-			awaitedFuture = providedFuture.await(timeoutAmount, timeoutUnit);
+			// Hamcrest will call us again to describe the mismatch, don't wait for the future a second time
+			awaited.rememberFailure(providedFuture, awaitedFuture, mismatchDescription);
 		}
 
+		return matches;
+	}
+
+	/**
+	 * Reports a failure in the outcome of a completed Future. The Future and its outcome are separate variants in the
+	 * path, as in the {@code toString} of a Future, such as {@code Future(Success(1))}
+	 *
+	 * @param description The description passed to {@code matchesFutureSafely}
+	 * @param outcome     The outcome of the Future, either {@code Success} or {@code Failure}
+	 * @param kind        The kind of failure
+	 * @param expected    The expected value, or the matcher that describes it
+	 * @param actual      The actual value
+	 */
+	static void reportOutcome(@NotNull Description description, @NotNull String outcome,
+			@NotNull MatchResult.Kind kind, @NotNull Object expected, @Nullable Object actual) {
+		MatchResult.report(description, "Future", kind, expected, actual);
+		MatchResult.report(description, outcome, kind, expected, actual);
+	}
+
+	private boolean matchesAwaitedFuture(@NotNull Future<T> awaitedFuture, @NotNull Description mismatchDescription) {
 		mismatchDescription.appendText("is a Future");
 
 		if (awaitedFuture.isFailure() && awaitedFuture.getCause().filter(TimeoutException.class::isInstance).isDefined()) {
+			MatchResult.report(mismatchDescription, "Future", MatchResult.Kind.TIMEOUT, this, awaitedFuture);
 			mismatchDescription.appendText(", that fails by exceeding timeout");
 			return false;
 		}
 
-
 		return matchesFutureSafely(awaitedFuture, mismatchDescription);
 	}
 
@@ -98,10 +135,15 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 		description.appendText("is a Future");
 
 		if (timeoutAmount > 0L && timeoutUnit != null) {
-			description.appendText(", that completes within ");
-			description.appendText(Long.toString(timeoutAmount));
-			description.appendText(" ");
-			description.appendText(timeoutUnit.toString().toLowerCase());
+			String timeout = timeoutDescription;
+
+			if (timeout == null) {
+				// The timeout never changes, so render it only once
+				timeout = ", that completes within " + timeoutAmount + " " + timeoutUnit.toString().toLowerCase();
+				timeoutDescription = timeout;
+			}
+
+			description.appendText(timeout);
 		}
 	}
 
@@ -114,11 +156,11 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 			Throwable throwable = cause.get();
 
 			description.appendText(", with exception of type ");
-			description.appendValue(throwable.getClass().getName());
+			description.appendDescriptionOf(BoundedValue.of(throwable.getClass().getName()));
 
 			if (throwable.getMessage() != null) {
 				description.appendText(", with message ");
-				description.appendValue(throwable.getMessage());
+				description.appendDescriptionOf(BoundedValue.of(throwable.getMessage()));
 			}
 		} else {
 			description.appendText(", but has no defined failure cause");
@@ -128,7 +170,7 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	protected final void describeSuccess(@NotNull Future<T> awaitedFuture, @NotNull Description mismatchDescription) {
 		mismatchDescription.appendText(", that succeeds");
 		mismatchDescription.appendText(", and yields value ");
-		mismatchDescription.appendValue(awaitedFuture.get());
+		mismatchDescription.appendDescriptionOf(BoundedValue.of(awaitedFuture.get()));
 	}
 
 	/**
@@ -136,7 +178,9 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 *
 	 * @param <T> The type of value returned by the future had it been a success
 	 */
-	public static class Failure<T> extends FutureMatcher<T, Failure<T>> {
+	public static final class Failure<T> extends FutureMatcher<T, Failure<T>> {
+		private volatile CachedDescription cachedDescription;
+
 		Failure() {
 			this(0L, null);
 		}
@@ -157,9 +201,11 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 			if (awaitedFuture.isFailure()) {
 				return true;
 			} else {
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				mismatchDescription.appendText(", that succeeds");
 				mismatchDescription.appendText(", and yields value ");
-				mismatchDescription.appendValue(awaitedFuture.get());
+				mismatchDescription.appendDescriptionOf(BoundedValue.of(awaitedFuture.get()));
 			}
 
 			return false;
@@ -167,6 +213,10 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", that fails");
 		}
@@ -177,11 +227,13 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 *
 	 * @param <T> The type of value returned by the future had it been a success
 	 */
-	public static class FailureOfType<T> extends FutureMatcher<T, FailureOfType<T>> {
+	public static final class FailureOfType<T> extends FutureMatcher<T, FailureOfType<T>> {
 		private final Class<? extends Throwable> expectedException;
 
 		private final String expectedExceptionMessage;
 
+		private volatile CachedDescription cachedDescription;
+
 		FailureOfType(@NotNull Class<? extends Throwable> expectedException) {
 			this(0L, null, expectedException, null);
 		}
@@ -224,13 +276,17 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 						if (expectedExceptionMessage == null) {
 							// Don't check message
 							return true;
-						} else {
-							String message = throwable.getMessage();
-							return expectedExceptionMessage.equals(message);
+						} else if (expectedExceptionMessage.equals(throwable.getMessage())) {
+							return true;
 						}
 					}
 				}
+
+				reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.VALUE_MISMATCH, this,
+						cause.getOrNull());
 			} else {
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeSuccess(awaitedFuture, mismatchDescription);
 			}
 
@@ -239,13 +295,17 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", that fails, with exception of type ");
-			description.appendValue(expectedException.getName());
+			description.appendDescriptionOf(BoundedValue.of(expectedException.getName()));
 
 			if (expectedExceptionMessage != null) {
 				description.appendText(" and message ");
-				description.appendValue(expectedExceptionMessage);
+				description.appendDescriptionOf(BoundedValue.of(expectedExceptionMessage));
 			}
 		}
 	}
@@ -255,9 +315,11 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 *
 	 * @param <T> The type of value returned by the future had it been a success
 	 */
-	public static class FailureMatching<T> extends FutureMatcher<T, FailureMatching<T>> {
+	public static final class FailureMatching<T> extends FutureMatcher<T, FailureMatching<T>> {
 		private final Matcher<? extends Throwable> matcher;
 
+		private final MatchMemo<Future<T>, Boolean> innerResults = new MatchMemo<>();
+
 		FailureMatching(@NotNull Matcher<? extends Throwable> matcher) {
 			this(0L, null, matcher);
 		}
@@ -284,14 +346,18 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 				Option<Throwable> cause = awaitedFuture.getCause();
 				if (cause.isDefined()) {
 					Throwable throwable = cause.get();
-					if (matcher.matches(throwable)) {
+					if (MatchMemo.matchesInner(innerResults, awaitedFuture, matcher, throwable, mismatchDescription)) {
 						return true;
 					}
 
+					reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.VALUE_MISMATCH,
+							matcher, throwable);
 					mismatchDescription.appendText(", that fails, because ");
-					matcher.describeMismatch(throwable, mismatchDescription);
+					MatchMemo.describeInnerMismatch(matcher, throwable, mismatchDescription);
 				}
 			} else {
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeSuccess(awaitedFuture, mismatchDescription);
 			}
 
@@ -310,11 +376,13 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 * Future Matcher that matches a failed future that matches a given predicate
 	 * @param <T> The type of value returned by the future if it had succeeded
 	 */
-	public static class FailureMatchingPredicate<T> extends FutureMatcher<T, FailureMatchingPredicate<T>> {
+	public static final class FailureMatchingPredicate<T> extends FutureMatcher<T, FailureMatchingPredicate<T>> {
 		private final String predicateDescription;
 
 		private final Predicate<Throwable> throwablePredicate;
 
+		private volatile CachedDescription cachedDescription;
+
 		FailureMatchingPredicate(String predicateDescription, Predicate<Throwable> throwablePredicate) {
 			this(0, null, predicateDescription, throwablePredicate);
 		}
@@ -344,12 +412,16 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 						return true;
 					}
 
+					reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.VALUE_MISMATCH,
+							this, throwable);
 					mismatchDescription.appendText(", that fails, with exception not matching predicate ");
-					mismatchDescription.appendValue(predicateDescription);
+					mismatchDescription.appendDescriptionOf(BoundedValue.of(predicateDescription));
 				} else {
 					mismatchDescription.appendText(", that fails, but has no defined failure cause");
 				}
 			} else {
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeSuccess(awaitedFuture, mismatchDescription);
 			}
 
@@ -358,9 +430,13 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", that fails, with exception matching predicate ");
-			description.appendValue(predicateDescription);
+			description.appendDescriptionOf(BoundedValue.of(predicateDescription));
 		}
 	}
 
@@ -368,7 +444,8 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 * Future Matcher that represents a success
 	 * @param <T> The type of value returned by the future
 	 */
-	public static class Success<T> extends FutureMatcher<T, Success<T>> {
+	public static final class Success<T> extends FutureMatcher<T, Success<T>> {
+		private volatile CachedDescription cachedDescription;
 
 		Success() {
 			this(0L, null);
@@ -390,6 +467,8 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 			if (awaitedFuture.isSuccess()) {
 				return true;
 			} else {
+				reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeFailure(awaitedFuture, mismatchDescription);
 			}
 
@@ -398,6 +477,10 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", that succeeds");
 		}
@@ -409,22 +492,29 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 * Future Matcher that represents a success, with the indicated value
 	 * @param <T> The type of value returned by the future
 	 */
-	public static class SuccessWithValue<T> extends FutureMatcher<T, SuccessWithValue<T>> {
+	public static final class SuccessWithValue<T> extends FutureMatcher<T, SuccessWithValue<T>> {
 		private final T expectedValue;
 
-		SuccessWithValue(@NotNull T expectedValue) {
-			this(0L, null, expectedValue);
+		private final Equivalence<? super T> equivalence;
+
+		private volatile CachedDescription cachedDescription;
+
+		SuccessWithValue(@NotNull T expectedValue, @Nullable Equivalence<? super T> equivalence) {
+			this(0L, null, expectedValue, equivalence);
 		}
 
-		private SuccessWithValue(long timeoutAmount, @Nullable TimeUnit timeoutUnit, @NotNull T expectedValue) {
+		private SuccessWithValue(
+				long timeoutAmount, @Nullable TimeUnit timeoutUnit, @NotNull T expectedValue,
+				@Nullable Equivalence<? super T> equivalence) {
 			super(timeoutAmount, timeoutUnit);
 			this.expectedValue = expectedValue;
+			this.equivalence = equivalence;
 		}
 
 		@Override
 		@NotNull
 		protected FutureMatcher.SuccessWithValue<T> newInstance(long timeoutAmount, @Nullable TimeUnit timeoutUnit) {
-			return new SuccessWithValue<>(timeoutAmount, timeoutUnit, expectedValue);
+			return new SuccessWithValue<>(timeoutAmount, timeoutUnit, expectedValue, equivalence);
 		}
 
 		@Override
@@ -434,14 +524,18 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 				T actualValue = awaitedFuture.get();
 
-				if (expectedValue.equals(actualValue)) {
+				if (Equivalence.test(equivalence, expectedValue, actualValue)) {
 					return true;
 				}
 
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+						expectedValue, actualValue);
 				mismatchDescription.appendText(", that succeeds, with value ");
-				mismatchDescription.appendValue(actualValue);
+				mismatchDescription.appendDescriptionOf(BoundedValue.of(actualValue));
 
 			} else {
+				reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeFailure(awaitedFuture, mismatchDescription);
 			}
 
@@ -451,9 +545,13 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", that succeeds, with value ");
-			description.appendValue(expectedValue);
+			description.appendDescriptionOf(BoundedValue.of(expectedValue));
 		}
 	}
 
@@ -461,9 +559,11 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 * Future Matcher that represents a success, whose value matches another matcher
 	 * @param <T> The type of value returned by the future
 	 */
-	public static class SuccessMatching<T> extends FutureMatcher<T, SuccessMatching<T>> {
+	public static final class SuccessMatching<T> extends FutureMatcher<T, SuccessMatching<T>> {
 		private final Matcher<T> matcher;
 
+		private final MatchMemo<Future<T>, Boolean> innerResults = new MatchMemo<>();
+
 		SuccessMatching(@NotNull Matcher<T> matcher) {
 			this(0L, null, matcher);
 		}
@@ -486,16 +586,20 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 				T actualValue = awaitedFuture.get();
 
-				if (matcher.matches(actualValue)) {
+				if (MatchMemo.matchesInner(innerResults, awaitedFuture, matcher, actualValue, mismatchDescription)) {
 					return true;
 				}
 
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+						matcher, actualValue);
 				mismatchDescription.appendText(", that succeeds, with value ");
-				mismatchDescription.appendValue(actualValue);
+				mismatchDescription.appendDescriptionOf(BoundedValue.of(actualValue));
 				mismatchDescription.appendText(" not matching because ");
-				matcher.describeMismatch(actualValue, mismatchDescription);
+				MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
 
 			} else {
+				reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeFailure(awaitedFuture, mismatchDescription);
 			}
 
@@ -515,11 +619,13 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 	 * Future Matcher that represents a success, with the indicated value
 	 * @param <T> The type of value returned by the future
 	 */
-	public static class SuccessMatchingPredicate<T> extends FutureMatcher<T, SuccessMatchingPredicate<T>> {
+	public static final class SuccessMatchingPredicate<T> extends FutureMatcher<T, SuccessMatchingPredicate<T>> {
 		private final String predicateDescription;
 
 		private final Predicate<T> valuePredicate;
 
+		private volatile CachedDescription cachedDescription;
+
 		SuccessMatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<T> valuePredicate) {
 			this(0L, null, predicateDescription, valuePredicate);
 		}
@@ -547,11 +653,15 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 					return true;
 				}
 
+				reportOutcome(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+						this, actualValue);
 				mismatchDescription.appendText(", that succeeds, with value ");
-				mismatchDescription.appendValue(actualValue);
+				mismatchDescription.appendDescriptionOf(BoundedValue.of(actualValue));
 				mismatchDescription.appendText(" not satisfying ");
-				mismatchDescription.appendValue(predicateDescription);
+				mismatchDescription.appendDescriptionOf(BoundedValue.of(predicateDescription));
 			} else {
+				reportOutcome(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT,
+						this, awaitedFuture);
 				describeFailure(awaitedFuture, mismatchDescription);
 			}
 
@@ -561,9 +671,13 @@ public abstract class FutureMatcher<T, F extends FutureMatcher<T, F>> extends Ty
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", that succeeds, with value matching predicate ");
-			description.appendValue(predicateDescription);
+			description.appendDescriptionOf(BoundedValue.of(predicateDescription));
 		}
 	}
 }
@@ -0,0 +1,179 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.IndexedSeq;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base class for matchers that check a part of a Vavr IndexedSeq, such as a Vector or Array, by index. Elements are
+ * read with {@code get}, so a Seq of tens of millions of elements can be checked by visiting only a reproducible
+ * sample or every so many elements. The mismatch description names the index of the element that did not match, and
+ * how it was chosen, so the failure can be reproduced, or confirmed with a full scan.
+ *
+ * @param <S> The type of IndexedSeq matched
+ */
+abstract class IndexedSeqMatcher<S extends IndexedSeq<?>> extends TypeSafeDiagnosingMatcher<S> {
+	IndexedSeqMatcher() {
+		super(IndexedSeq.class);
+	}
+
+	/**
+	 * Describes an element of an IndexedSeq that does not match
+	 *
+	 * @param subject             The IndexedSeq that was matched
+	 * @param index               The index of the element
+	 * @param matcher             The matcher the element should satisfy
+	 * @param actual              The element
+	 * @param mismatchDescription The description to append to
+	 * @return The description
+	 */
+	@NotNull
+	static Description describeElement(
+			@NotNull IndexedSeq<?> subject, int index, @NotNull Matcher<?> matcher, @Nullable Object actual,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, subject.stringPrefix() + "[" + index + "]",
+				MatchResult.Kind.VALUE_MISMATCH, matcher, actual);
+		return TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" with element ")
+				.appendDescriptionOf(BoundedValue.of(actual)).appendText(" at index ")
+				.appendText(String.valueOf(index));
+	}
+
+	/**
+	 * Matches an IndexedSeq of which every element in a random sample satisfies the given matcher. The indices are
+	 * drawn, with replacement, from a {@link SplittableRandom} with the given seed, so the same seed checks the same
+	 * indices of a Seq of the same length. If the sample is at least as large as the Seq, every element is checked
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class EverySampled<T> extends IndexedSeqMatcher<IndexedSeq<? extends T>> {
+		private final int sampleSize;
+
+		private final long seed;
+
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<IndexedSeq<? extends T>, Tuple2<Integer, Integer>> firstMismatch = new MatchMemo<>();
+
+		EverySampled(int sampleSize, long seed, @NotNull Matcher<? super T> matcher) {
+			if (sampleSize < 0) {
+				throw new IllegalArgumentException("sampleSize must not be negative, but is " + sampleSize);
+			}
+
+			this.sampleSize = sampleSize;
+			this.seed = seed;
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull IndexedSeq<? extends T> subject, @NotNull Description mismatchDescription) {
+			Tuple2<Integer, Integer> mismatch = firstMismatch.recall(subject, mismatchDescription);
+
+			if (mismatch == null) {
+				int length = subject.length();
+				boolean full = sampleSize >= length;
+				int samples = full ? length : sampleSize;
+				SplittableRandom random = new SplittableRandom(seed);
+
+				for (int sample = 0; mismatch == null && sample < samples; sample++) {
+					int index = full ? sample : random.nextInt(length);
+
+					if (!matcher.matches(subject.get(index))) {
+						mismatch = Tuple.of(sample, index);
+					}
+				}
+
+				if (mismatch == null) {
+					firstMismatch.forget();
+					return true;
+				}
+
+				firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+			}
+
+			T actual = subject.get(mismatch._2);
+
+			describeElement(subject, mismatch._2, matcher, actual, mismatchDescription).appendText(" (sample ")
+					.appendText(String.valueOf(mismatch._1 + 1)).appendText(" of ")
+					.appendText(String.valueOf(Math.min(sampleSize, subject.length())))
+					.appendText(", seed ").appendText(String.valueOf(seed)).appendText(") not matching because ");
+			MatchMemo.describeInnerMismatch(matcher, actual, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an IndexedSeq of which every element in a sample of ")
+					.appendText(String.valueOf(sampleSize)).appendText(" with seed ").appendText(String.valueOf(seed))
+					.appendText(" is ").appendDescriptionOf(matcher);
+		}
+	}
+
+	/**
+	 * Matches an IndexedSeq of which every element at a multiple of the given stride satisfies the given matcher,
+	 * starting with the first element
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class EveryNth<T> extends IndexedSeqMatcher<IndexedSeq<? extends T>> {
+		private final int stride;
+
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<IndexedSeq<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		EveryNth(int stride, @NotNull Matcher<? super T> matcher) {
+			if (stride <= 0) {
+				throw new IllegalArgumentException("stride must be positive, but is " + stride);
+			}
+
+			this.stride = stride;
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull IndexedSeq<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer mismatch = firstMismatch.recall(subject, mismatchDescription);
+
+			if (mismatch == null) {
+				int length = subject.length();
+
+				for (long index = 0; mismatch == null && index < length; index += stride) {
+					if (!matcher.matches(subject.get((int) index))) {
+						mismatch = (int) index;
+					}
+				}
+
+				if (mismatch == null) {
+					firstMismatch.forget();
+					return true;
+				}
+
+				firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+			}
+
+			T actual = subject.get(mismatch);
+
+			describeElement(subject, mismatch, matcher, actual, mismatchDescription).appendText(" (stride ")
+					.appendText(String.valueOf(stride)).appendText(") not matching because ");
+			MatchMemo.describeInnerMismatch(matcher, actual, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an IndexedSeq of which every element at a multiple of ")
+					.appendText(String.valueOf(stride)).appendText(" is ").appendDescriptionOf(matcher);
+		}
+	}
+}
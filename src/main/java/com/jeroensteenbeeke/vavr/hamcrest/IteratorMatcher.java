@@ -0,0 +1,196 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base class for matchers that consume a Vavr Iterator in a single pass. Only the current element is referenced
+ * while the Iterator is consumed, so the memory used does not depend on the number of elements, as long as the
+ * caller does not hold on to the collection the Iterator came from.
+ * <p>
+ * Since an Iterator can only be consumed once, the outcome of a failed match is remembered, and describing the
+ * mismatch does not visit the Iterator again.
+ *
+ * @param <S> The type of Iterator matched
+ */
+abstract class IteratorMatcher<S extends Iterator<?>> extends TypeSafeDiagnosingMatcher<S> {
+	IteratorMatcher() {
+		super(Iterator.class);
+	}
+
+	/**
+	 * Describes an element of an Iterator that does not match
+	 *
+	 * @param index               The index of the element
+	 * @param matcher             The matcher that was applied to the element
+	 * @param actual              The element
+	 * @param mismatchDescription The description to append to
+	 * @return The description
+	 */
+	@NotNull
+	static Description describeElement(
+			long index, @NotNull Matcher<?> matcher, @Nullable Object actual,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, "Iterator[" + index + "]", MatchResult.Kind.VALUE_MISMATCH,
+				matcher, actual);
+		return mismatchDescription.appendText("is an Iterator with element ")
+				.appendDescriptionOf(BoundedValue.of(actual)).appendText(" at index ")
+				.appendText(String.valueOf(index));
+	}
+
+	/**
+	 * Matches an Iterator of which every element satisfies the given matcher. The Iterator is consumed up to the
+	 * first element that does not match
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class EveryElement<T> extends IteratorMatcher<Iterator<? extends T>> {
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<Iterator<? extends T>, Tuple2<Long, T>> firstMismatch = new MatchMemo<>();
+
+		EveryElement(@NotNull Matcher<? super T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Iterator<? extends T> subject, @NotNull Description mismatchDescription) {
+			Tuple2<Long, T> mismatch = firstMismatch.recall(subject, mismatchDescription);
+
+			for (long index = 0; mismatch == null && subject.hasNext(); index++) {
+				T actual = subject.next();
+
+				if (!matcher.matches(actual)) {
+					mismatch = Tuple.of(index, actual);
+					firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+				}
+			}
+
+			if (mismatch == null) {
+				firstMismatch.forget();
+				return true;
+			}
+
+			describeElement(mismatch._1, matcher, mismatch._2, mismatchDescription)
+					.appendText(" not matching because ");
+			MatchMemo.describeInnerMismatch(matcher, mismatch._2, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an Iterator of which every element is ").appendDescriptionOf(matcher);
+		}
+	}
+
+	/**
+	 * Matches an Iterator of which no element satisfies the given matcher. The Iterator is consumed up to the first
+	 * element that matches
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class NoElement<T> extends IteratorMatcher<Iterator<? extends T>> {
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<Iterator<? extends T>, Tuple2<Long, T>> firstMatch = new MatchMemo<>();
+
+		NoElement(@NotNull Matcher<? super T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Iterator<? extends T> subject, @NotNull Description mismatchDescription) {
+			Tuple2<Long, T> match = firstMatch.recall(subject, mismatchDescription);
+
+			for (long index = 0; match == null && subject.hasNext(); index++) {
+				T actual = subject.next();
+
+				if (matcher.matches(actual)) {
+					match = Tuple.of(index, actual);
+					firstMatch.rememberFailure(subject, match, mismatchDescription);
+				}
+			}
+
+			if (match == null) {
+				firstMatch.forget();
+				return true;
+			}
+
+			describeElement(match._1, matcher, match._2, mismatchDescription).appendText(" matching ")
+					.appendDescriptionOf(matcher);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an Iterator of which no element is ").appendDescriptionOf(matcher);
+		}
+	}
+
+	/**
+	 * Matches an Iterator that yields the given number of elements. The Iterator is consumed up to one element past
+	 * the expected count
+	 */
+	static final class Count extends IteratorMatcher<Iterator<?>> {
+		private final long count;
+
+		private final MatchMemo<Iterator<?>, Long> counted = new MatchMemo<>();
+
+		Count(long count) {
+			if (count < 0) {
+				throw new IllegalArgumentException("count must not be negative, but is " + count);
+			}
+
+			this.count = count;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Iterator<?> subject, @NotNull Description mismatchDescription) {
+			Long actual = counted.recall(subject, mismatchDescription);
+
+			if (actual == null) {
+				long elements = 0;
+
+				while (elements <= count && subject.hasNext()) {
+					subject.next();
+					elements++;
+				}
+
+				if (elements == count) {
+					counted.forget();
+					return true;
+				}
+
+				actual = elements;
+				counted.rememberFailure(subject, actual, mismatchDescription);
+			}
+
+			MatchResult.report(mismatchDescription, "Iterator", MatchResult.Kind.VALUE_MISMATCH, count, actual);
+			if (actual > count) {
+				mismatchDescription.appendText("is an Iterator of more than ").appendText(String.valueOf(count))
+						.appendText(" elements");
+			} else {
+				mismatchDescription.appendText("is an Iterator of ").appendText(String.valueOf(actual))
+						.appendText(actual == 1 ? " element" : " elements");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an Iterator of ").appendText(String.valueOf(count))
+					.appendText(count == 1 ? " element" : " elements");
+		}
+	}
+}
@@ -21,6 +21,10 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 	protected final long timeoutAmount;
 	protected final TimeUnit timeoutUnit;
 
+	private volatile String timeoutDescription;
+
+	private final MatchMemo<Lazy<T>, Boolean> evaluationFailed = new MatchMemo<>();
+
 	/**
 	 * Constructor
 	 *
@@ -28,6 +32,7 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 	 * @param timeoutUnit   The type of time unit to wait for execution to complete
 	 */
 	protected LazyMatcher(long timeoutAmount, @Nullable TimeUnit timeoutUnit) {
+		super(Lazy.class);
 		this.timeoutAmount = timeoutAmount;
 		this.timeoutUnit = timeoutUnit;
 	}
@@ -64,33 +69,53 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 		} else if (timeoutAmount <= 0) {
 			// Someone didn't read the manual
 			mismatchDescription.appendText("invalid parameter timeoutAmount, must be positive, but is ")
-					.appendValue(timeoutAmount);
+					.appendDescriptionOf(BoundedValue.of(timeoutAmount));
 			return false;
 		} else {
 			mismatchDescription.appendText("is a Lazy");
 
-			Future<Lazy<T>> awaited = Future.of(() -> {
-				lazy.get();
-				return lazy;
-			}).await(timeoutAmount, timeoutUnit);
+			// Only whether the evaluation failed is remembered: the Lazy itself holds its value
+			Boolean failed = evaluationFailed.recall(lazy, mismatchDescription);
+
+			if (failed == null) {
+				failed = Future.of(lazy::get).await(timeoutAmount, timeoutUnit).isFailure();
+			}
 
-			if (awaited.isFailure()) {
+			boolean matches;
+
+			if (failed) {
+				MatchResult.report(mismatchDescription, "Lazy", MatchResult.Kind.TIMEOUT, this, lazy);
 				mismatchDescription.appendText(", that fails by exceeding timeout");
-				return false;
+				matches = false;
+			} else {
+				matches = matchesLazySafely(lazy, mismatchDescription);
+			}
+
+			if (matches) {
+				evaluationFailed.forget();
 			} else {
-				return matchesLazySafely(awaited.get(), mismatchDescription);
+				// Hamcrest will call us again to describe the mismatch, don't start a second evaluation
+				evaluationFailed.rememberFailure(lazy, failed, mismatchDescription);
 			}
+
+			return matches;
 		}
 	}
 
 	@Override
 	public void describeTo(@NotNull Description description) {
 		description.appendText("is a Lazy");
+
 		if (timeoutAmount > 0L && timeoutUnit != null) {
-			description.appendText(", that completes within ");
-			description.appendText(Long.toString(timeoutAmount));
-			description.appendText(" ");
-			description.appendText(timeoutUnit.toString().toLowerCase());
+			String timeout = timeoutDescription;
+
+			if (timeout == null) {
+				// The timeout never changes, so render it only once
+				timeout = ", that completes within " + timeoutAmount + " " + timeoutUnit.toString().toLowerCase();
+				timeoutDescription = timeout;
+			}
+
+			description.appendText(timeout);
 		}
 	}
 
@@ -108,7 +133,7 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 	 *
 	 * @param <T> The type of value yielded by the Lazy
 	 */
-	public static class Bare<T> extends LazyMatcher<T, Bare<T>> {
+	public static final class Bare<T> extends LazyMatcher<T, Bare<T>> {
 		/**
 		 * Constructor
 		 */
@@ -145,16 +170,30 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 	 *
 	 * @param <T> The type of value yielded by the Lazy
 	 */
-	public static class Valued<T> extends LazyMatcher<T, Valued<T>> {
+	public static final class Valued<T> extends LazyMatcher<T, Valued<T>> {
 		private final T expectedValue;
 
+		private final Equivalence<? super T> equivalence;
+
+		private volatile CachedDescription cachedDescription;
+
 		/**
 		 * Constructor
 		 *
 		 * @param expectedValue The value expected
 		 */
 		public Valued(@NotNull T expectedValue) {
-			this(0L, null, expectedValue);
+			this(0L, null, expectedValue, null);
+		}
+
+		/**
+		 * Constructor
+		 *
+		 * @param expectedValue The value expected
+		 * @param equivalence   The equivalence used to compare the yielded value to the expected value
+		 */
+		public Valued(@NotNull T expectedValue, @NotNull Equivalence<? super T> equivalence) {
+			this(0L, null, expectedValue, equivalence);
 		}
 
 		/**
@@ -163,37 +202,47 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 		 * @param timeoutAmount The amount of units to wait for a result
 		 * @param timeoutUnit   The type of units to wait for a result
 		 * @param expectedValue The value expected
+		 * @param equivalence   The equivalence used to compare values, or {@code null} for the global equivalence
 		 */
-		private Valued(long timeoutAmount, @Nullable TimeUnit timeoutUnit, @NotNull T expectedValue) {
+		private Valued(
+				long timeoutAmount, @Nullable TimeUnit timeoutUnit, @NotNull T expectedValue,
+				@Nullable Equivalence<? super T> equivalence) {
 			super(timeoutAmount, timeoutUnit);
 			this.expectedValue = expectedValue;
+			this.equivalence = equivalence;
 		}
 
 		@Override
 		@NotNull
 		protected Valued<T> newInstance(long timeoutAmount, @Nullable TimeUnit timeoutUnit) {
-			return new Valued<>(timeoutAmount, timeoutUnit, expectedValue);
+			return new Valued<>(timeoutAmount, timeoutUnit, expectedValue, equivalence);
 		}
 
 		@Override
 		protected boolean matchesLazySafely(@NotNull Lazy<T> lazy, @NotNull Description mismatchDescription) {
 			T actualValue = lazy.get();
 
-			if (actualValue.equals(expectedValue)) {
+			if (Equivalence.test(equivalence, expectedValue, actualValue)) {
 				return true;
 			}
 
+			MatchResult.report(mismatchDescription, "Lazy", MatchResult.Kind.VALUE_MISMATCH,
+					expectedValue, actualValue);
 			mismatchDescription.appendText(", which yields value ");
-			mismatchDescription.appendValue(actualValue);
+			mismatchDescription.appendDescriptionOf(BoundedValue.of(actualValue));
 
 			return false;
 		}
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", which yields value ");
-			description.appendValue(expectedValue);
+			description.appendDescriptionOf(BoundedValue.of(expectedValue));
 		}
 	}
 
@@ -203,9 +252,11 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 	 *
 	 * @param <T> The type of value yielded by the Lazy
 	 */
-	public static class Matching<T> extends LazyMatcher<T, Matching<T>> {
+	public static final class Matching<T> extends LazyMatcher<T, Matching<T>> {
 		private final Matcher<T> matcher;
 
+		private final MatchMemo<Lazy<T>, Boolean> innerResults = new MatchMemo<>();
+
 		/**
 		 * Constructor
 		 *
@@ -237,14 +288,15 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 		protected boolean matchesLazySafely(@NotNull Lazy<T> lazy, @NotNull Description mismatchDescription) {
 			T actualValue = lazy.get();
 
-			if (matcher.matches(actualValue)) {
+			if (MatchMemo.matchesInner(innerResults, lazy, matcher, actualValue, mismatchDescription)) {
 				return true;
 			}
 
+			MatchResult.report(mismatchDescription, "Lazy", MatchResult.Kind.VALUE_MISMATCH, matcher, actualValue);
 			mismatchDescription.appendText(", which yields value ");
-			mismatchDescription.appendValue(actualValue)
+			mismatchDescription.appendDescriptionOf(BoundedValue.of(actualValue))
 					.appendText(" not matching because ");
-			matcher.describeMismatch(actualValue, mismatchDescription);
+			MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
 
 			return false;
 		}
@@ -263,11 +315,13 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 	 *
 	 * @param <T> The type of value yielded by the Lazy
 	 */
-	public static class MatchingPredicate<T> extends LazyMatcher<T, MatchingPredicate<T>> {
+	public static final class MatchingPredicate<T> extends LazyMatcher<T, MatchingPredicate<T>> {
 		private final String predicateDescription;
 
 		private final Predicate<T> valuePredicate;
 
+		private volatile CachedDescription cachedDescription;
+
 		MatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<T> valuePredicate) {
 			this(0L, null, predicateDescription, valuePredicate);
 		}
@@ -294,19 +348,24 @@ public abstract class LazyMatcher<T, L extends LazyMatcher<T, L>> extends TypeSa
 				return true;
 			}
 
+			MatchResult.report(mismatchDescription, "Lazy", MatchResult.Kind.VALUE_MISMATCH, this, actualValue);
 			mismatchDescription.appendText(", which yields value ");
-			mismatchDescription.appendValue(actualValue);
+			mismatchDescription.appendDescriptionOf(BoundedValue.of(actualValue));
 			mismatchDescription.appendText(", which does not satisfy ");
-			mismatchDescription.appendValue(predicateDescription);
+			mismatchDescription.appendDescriptionOf(BoundedValue.of(predicateDescription));
 
 			return false;
 		}
 
 		@Override
 		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
 			super.describeTo(description);
 			description.appendText(", which satisfies ");
-			description.appendValue(predicateDescription);
+			description.appendDescriptionOf(BoundedValue.of(predicateDescription));
 		}
 	}
 }
@@ -0,0 +1,234 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.Map;
+import io.vavr.control.Option;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for matchers of Vavr's Map. Keys are looked up with {@code containsKey} and {@code get}, which take
+ * constant or logarithmic time depending on the type of Map, so checking a handful of keys in a large Map never
+ * visits the other entries
+ *
+ * @param <M> The type of Map matched
+ */
+abstract class MapMatcher<M extends Map<?, ?>> extends TypeSafeDiagnosingMatcher<M> {
+	MapMatcher() {
+		super(Map.class);
+	}
+
+	/**
+	 * Describes a Map that does not contain the given key
+	 *
+	 * @param subject             The Map that was matched
+	 * @param expected            The matcher that expected the key
+	 * @param key                 The key that is missing
+	 * @param mismatchDescription The description to append to
+	 */
+	static void describeMissingKey(
+			@NotNull Map<?, ?> subject, @NotNull Matcher<?> expected, @NotNull Object key,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, expected,
+				subject);
+		TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" without key ")
+				.appendDescriptionOf(BoundedValue.of(key));
+	}
+
+	/**
+	 * Matches a Map that contains the given key
+	 *
+	 * @param <K> The type of key
+	 */
+	static final class ContainsKey<K> extends MapMatcher<Map<K, ?>> {
+		private final K key;
+
+		private volatile CachedDescription cachedDescription;
+
+		ContainsKey(@NotNull K key) {
+			this.key = key;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Map<K, ?> subject, @NotNull Description mismatchDescription) {
+			if (subject.containsKey(key)) {
+				return true;
+			}
+
+			describeMissingKey(subject, this, key, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Map with key ").appendDescriptionOf(BoundedValue.of(key));
+		}
+	}
+
+	/**
+	 * Matches a Map that maps the given key to the given value. Values are compared using the global
+	 * {@link Equivalence}
+	 *
+	 * @param <K> The type of key
+	 * @param <V> The type of value
+	 */
+	static final class ContainsEntry<K, V> extends MapMatcher<Map<K, V>> {
+		private final K key;
+
+		private final V value;
+
+		private volatile CachedDescription cachedDescription;
+
+		ContainsEntry(@NotNull K key, @NotNull V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Map<K, V> subject, @NotNull Description mismatchDescription) {
+			Option<V> actual = subject.get(key);
+
+			if (actual.isEmpty()) {
+				describeMissingKey(subject, this, key, mismatchDescription);
+				return false;
+			}
+
+			if (Equivalence.test(null, value, actual.get())) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, value,
+					actual.get());
+			TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" with value ")
+					.appendDescriptionOf(BoundedValue.of(actual.get())).appendText(" for key ")
+					.appendDescriptionOf(BoundedValue.of(key));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Map with value ").appendDescriptionOf(BoundedValue.of(value))
+					.appendText(" for key ").appendDescriptionOf(BoundedValue.of(key));
+		}
+	}
+
+	/**
+	 * Matches a Map that maps the given key to a value that satisfies the given matcher. The value is looked up as an
+	 * Option, which is then matched by the same logic as {@code isDefinedOption(matcher)}
+	 *
+	 * @param <K> The type of key
+	 * @param <V> The type of value
+	 */
+	static final class ContainsEntryMatching<K, V> extends MapMatcher<Map<K, V>> {
+		private final K key;
+
+		private final Matcher<Option<V>> valueMatcher;
+
+		private final MatchMemo<Map<K, V>, Option<V>> lookups = new MatchMemo<>();
+
+		ContainsEntryMatching(@NotNull K key, @NotNull Matcher<V> matcher) {
+			this.key = key;
+			this.valueMatcher = new OptionMatcher.DefinedMatching<>(matcher);
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Map<K, V> subject, @NotNull Description mismatchDescription) {
+			// Vavr's Maps return a new Option for every lookup, remember it so the Option matcher can recall its
+			// own inner result while the mismatch is described
+			Option<V> value = lookups.recall(subject, mismatchDescription);
+
+			if (value != null) {
+				describeValue(subject, value, mismatchDescription);
+				return false;
+			}
+
+			value = subject.get(key);
+
+			if (valueMatcher.matches(value)) {
+				lookups.forget();
+				return true;
+			}
+
+			lookups.rememberFailure(subject, value, mismatchDescription);
+			describeValue(subject, value, mismatchDescription);
+
+			return false;
+		}
+
+		private void describeValue(
+				@NotNull Map<K, V> subject, @NotNull Option<V> value, @NotNull Description mismatchDescription) {
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+					valueMatcher, value);
+			TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" whose value for key ")
+					.appendDescriptionOf(BoundedValue.of(key)).appendText(" ");
+			MatchMemo.describeInnerMismatch(valueMatcher, value, mismatchDescription);
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Map whose value for key ").appendDescriptionOf(BoundedValue.of(key))
+					.appendText(" ").appendDescriptionOf(valueMatcher);
+		}
+	}
+
+	/**
+	 * Matches a Map that contains all entries of the given Map. Each expected key is looked up once, so the time
+	 * taken depends on the number of expected entries, not on the size of the matched Map
+	 *
+	 * @param <K> The type of key
+	 * @param <V> The type of value
+	 */
+	static final class ContainsEntries<K, V> extends MapMatcher<Map<K, V>> {
+		private final Map<K, V> entries;
+
+		private volatile CachedDescription cachedDescription;
+
+		ContainsEntries(@NotNull Map<K, V> entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Map<K, V> subject, @NotNull Description mismatchDescription) {
+			for (Tuple2<K, V> entry : entries) {
+				Option<V> actual = subject.get(entry._1);
+
+				if (actual.isEmpty()) {
+					describeMissingKey(subject, this, entry._1, mismatchDescription);
+					return false;
+				}
+
+				if (!Equivalence.test(null, entry._2, actual.get())) {
+					MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+							entry._2, actual.get());
+					TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" with value ")
+							.appendDescriptionOf(BoundedValue.of(actual.get())).appendText(" for key ")
+							.appendDescriptionOf(BoundedValue.of(entry._1));
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Map containing the entries ").appendDescriptionOf(BoundedValue.of(entries));
+		}
+	}
+}
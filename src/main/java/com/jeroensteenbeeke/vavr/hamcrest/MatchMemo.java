@@ -0,0 +1,158 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Remembers the outcome of the last failed match of a matcher instance.
+ * <p>
+ * Hamcrest's {@code TypeSafeDiagnosingMatcher} invokes {@code matchesSafely} twice for a failed assertion: once
+ * from {@code matches} with a {@link Description.NullDescription}, and once more from {@code describeMismatch}. A
+ * matcher that does expensive work (awaiting a Future, evaluating a Lazy) can remember the outcome during the first
+ * call and recall it during the second, so the work is done once per assertion.
+ * <p>
+ * An outcome is only recalled for the exact same subject instance, on the thread that remembered it, and only once.
+ * Since a matcher may be shared between threads, it is never an error for a recall to miss: the caller simply
+ * redoes the work.
+ * <p>
+ * A failed match is not always described, for instance under {@code not(...)} or {@code anyOf(...)}, so the memo
+ * holds the subject weakly: a large Stream or a completed Future is not kept reachable by a matcher that happens to
+ * be reused. While the mismatch is described the caller holds the subject, so it cannot be collected in between. An
+ * outcome that is the subject itself, such as an awaited Future, is held weakly along with it.
+ *
+ * @param <S> The type of subject
+ * @param <O> The type of outcome
+ */
+final class MatchMemo<S, O> {
+	private volatile Entry<S, O> last;
+
+	/**
+	 * Determines whether the given description belongs to the first, non-describing, call of
+	 * {@code matchesSafely}
+	 *
+	 * @param description The description passed to {@code matchesSafely}
+	 * @return {@code true} if the description discards everything written to it
+	 */
+	static boolean isMatchOnly(@NotNull Description description) {
+		return description instanceof Description.NullDescription;
+	}
+
+	/**
+	 * Remembers the outcome of a failed match for the given subject, if the failure was determined in the
+	 * first, non-describing, call of {@code matchesSafely}
+	 *
+	 * @param subject     The subject that was matched
+	 * @param outcome     The outcome of the match
+	 * @param description The description passed to {@code matchesSafely}
+	 */
+	void rememberFailure(@NotNull S subject, @NotNull O outcome, @NotNull Description description) {
+		if (isMatchOnly(description)) {
+			last = new Entry<>(subject, outcome);
+		}
+	}
+
+	/**
+	 * Removes any remembered outcome, so the subject is no longer referenced
+	 */
+	void forget() {
+		if (last != null) {
+			last = null;
+		}
+	}
+
+	/**
+	 * Returns the outcome remembered for the given subject, and forgets it. Outcomes are only recalled while
+	 * describing a mismatch, the first call of {@code matchesSafely} always does the work itself
+	 *
+	 * @param subject     The subject being matched
+	 * @param description The description passed to {@code matchesSafely}
+	 * @return The remembered outcome, or {@code null} if none was remembered for this subject on this thread
+	 */
+	@Nullable
+	O recall(@NotNull S subject, @NotNull Description description) {
+		if (isMatchOnly(description)) {
+			return null;
+		}
+
+		Entry<S, O> entry = last;
+
+		if (entry != null && entry.subject.get() == subject && entry.thread == Thread.currentThread()) {
+			last = null;
+			return entry.outcome(subject);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Matches a value contained in the subject against an inner matcher. When describing a mismatch, the inner
+	 * matcher is not invoked again if it is already known to have failed: nested matchers can then describe
+	 * their own mismatch from their own memo, which keeps describing a mismatch linear in the nesting depth
+	 *
+	 * @param memo        The memo of inner results of the calling matcher
+	 * @param subject     The subject matched by the calling matcher
+	 * @param matcher     The inner matcher
+	 * @param value       The value to pass to the inner matcher
+	 * @param description The description passed to {@code matchesSafely} of the calling matcher
+	 * @param <S>         The type of subject
+	 * @return {@code true} if the inner matcher matches the value, {@code false} otherwise
+	 */
+	static <S> boolean matchesInner(
+			@NotNull MatchMemo<S, Boolean> memo, @NotNull S subject, @NotNull Matcher<?> matcher,
+			@Nullable Object value, @NotNull Description description) {
+		if (memo.recall(subject, description) != null) {
+			return false;
+		}
+
+		if (matcher.matches(value)) {
+			memo.forget();
+			return true;
+		}
+
+		memo.rememberFailure(subject, Boolean.FALSE, description);
+
+		return false;
+	}
+
+	/**
+	 * Describes why the inner matcher did not match the given value. Skipped entirely during the first,
+	 * non-describing, call of {@code matchesSafely}: the text would be discarded anyway, and for nested Vavr
+	 * matchers describing means matching all over again, once for every level of nesting
+	 *
+	 * @param matcher     The inner matcher
+	 * @param value       The value the inner matcher did not match
+	 * @param description The description passed to {@code matchesSafely} of the calling matcher
+	 */
+	static void describeInnerMismatch(
+			@NotNull Matcher<?> matcher, @Nullable Object value, @NotNull Description description) {
+		if (!isMatchOnly(description)) {
+			matcher.describeMismatch(value, description);
+		}
+	}
+
+	private static final class Entry<S, O> {
+		private final WeakReference<S> subject;
+
+		private final O outcome;
+
+		private final Thread thread;
+
+		private Entry(@NotNull S subject, @NotNull O outcome) {
+			this.subject = new WeakReference<>(subject);
+			// An outcome that is the subject would keep it reachable, so it is recalled from the subject instead
+			this.outcome = outcome == subject ? null : outcome;
+			this.thread = Thread.currentThread();
+		}
+
+		@SuppressWarnings("unchecked")
+		@NotNull
+		private O outcome(@NotNull S subject) {
+			// Only null if the outcome was the subject, so the cast recovers the original outcome
+			return outcome != null ? outcome : (O) subject;
+		}
+	}
+}
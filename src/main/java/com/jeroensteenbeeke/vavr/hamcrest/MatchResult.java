@@ -0,0 +1,227 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.StringDescription;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The structured outcome of a failed match. Instead of free text, a MatchResult holds the path of variants that was
+ * followed into the subject (for example {@code Some -> Right -> Failure}), the kind of failure, what was expected
+ * and a reference to the actual value at the point of failure. Nothing is rendered to text until
+ * {@link #describeTo(Description)} or {@link #toString()} is called.
+ * <p>
+ * Only the matchers of this library contribute to the path. When a foreign matcher fails, the result points at the
+ * deepest Vavr matcher, with the foreign matcher as the expectation.
+ */
+public final class MatchResult implements SelfDescribing {
+	/**
+	 * The reasons a match can fail
+	 */
+	public enum Kind {
+		/**
+		 * A Future or Lazy did not complete within the given timeout
+		 */
+		TIMEOUT,
+		/**
+		 * The subject is not of the expected variant, such as a Left where a Right was expected
+		 */
+		WRONG_VARIANT,
+		/**
+		 * The subject is of the expected variant, but its contents are not as expected
+		 */
+		VALUE_MISMATCH
+	}
+
+	private final List<String> path;
+
+	private final Kind kind;
+
+	private final Object expected;
+
+	private final Object actual;
+
+	private MatchResult(@NotNull List<String> path, @NotNull Kind kind, @NotNull Object expected,
+			@Nullable Object actual) {
+		this.path = path;
+		this.kind = kind;
+		this.expected = expected;
+		this.actual = actual;
+	}
+
+	/**
+	 * Matches the given item, and explains the failure if it does not match
+	 *
+	 * @param matcher The matcher to test the item against
+	 * @param item    The item to test
+	 * @return An empty Option if the item matches, or an Option with the reason it does not
+	 */
+	@NotNull
+	public static Option<MatchResult> explain(@NotNull Matcher<?> matcher, @NotNull Object item) {
+		if (matcher.matches(item)) {
+			return Option.none();
+		}
+
+		Collector collector = new Collector();
+		matcher.describeMismatch(item, collector);
+
+		if (collector.kind == null) {
+			// Not one of our matchers, or the item is not of the matched type at all
+			return Option.some(new MatchResult(List.empty(), Kind.VALUE_MISMATCH, matcher, item));
+		}
+
+		return Option.some(new MatchResult(collector.path, collector.kind, collector.expected, collector.actual));
+	}
+
+	/**
+	 * Returns the variants that were followed into the subject, outermost first, including the variant at which
+	 * the match failed. Each variant is named the way Vavr names the value in its {@code toString}, which is its
+	 * {@code stringPrefix()}: {@code Some} or {@code None}, {@code Left} or {@code Right}, {@code Success} or
+	 * {@code Failure}, {@code Lazy}, or the type of collection, such as {@code Vector} or {@code TreeMap}. A Future
+	 * contributes {@code Future}, followed by {@code Success} or {@code Failure} once it has completed. An element of
+	 * a collection adds its index or position in brackets, as in {@code Vector[3]}. Two subjects are not Vavr values:
+	 * the function matched by {@code evaluatesAtMost} is named {@code Pipeline}, and the Supplier matched by
+	 * {@code whenSupplied} is named {@code Supplier}, followed by the path into the Iterator it supplies
+	 *
+	 * @return The variant path, for example {@code List(Some, Right, Failure)}
+	 */
+	@NotNull
+	public List<String> getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the kind of failure
+	 *
+	 * @return The kind of failure
+	 */
+	@NotNull
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Returns what was expected at the point of failure: the expected value, or the matcher that failed
+	 *
+	 * @return The expectation
+	 */
+	@NotNull
+	public Object getExpected() {
+		return expected;
+	}
+
+	/**
+	 * Returns the actual value at the point of failure. This is a reference to the value itself, not a copy
+	 *
+	 * @return The actual value
+	 */
+	@Nullable
+	public Object getActual() {
+		return actual;
+	}
+
+	@Override
+	public void describeTo(@NotNull Description description) {
+		if (!path.isEmpty()) {
+			description.appendText(path.mkString(" -> ")).appendText(": ");
+		}
+
+		switch (kind) {
+			case TIMEOUT:
+				description.appendText("timeout");
+				break;
+			case WRONG_VARIANT:
+				description.appendText("wrong variant");
+				break;
+			default:
+				description.appendText("value mismatch");
+				break;
+		}
+
+		description.appendText(", expected ");
+		if (expected instanceof SelfDescribing) {
+			description.appendDescriptionOf((SelfDescribing) expected);
+		} else {
+			description.appendDescriptionOf(BoundedValue.of(expected));
+		}
+		description.appendText(", but was ").appendDescriptionOf(BoundedValue.of(actual));
+	}
+
+	@Override
+	public String toString() {
+		return StringDescription.toString(this);
+	}
+
+	/**
+	 * Reports a failure to the given description, if it is collecting a MatchResult. Matchers call this for
+	 * every failure, and nested matchers call it again when their own mismatch is described, which extends the
+	 * path and refines the failure. Any other description, including the one used to match without describing,
+	 * ignores the report, so callers do not check the kind of description first
+	 *
+	 * @param description The description passed to {@code matchesSafely}
+	 * @param variant     The variant of the subject that was found
+	 * @param kind        The kind of failure
+	 * @param expected    The expected value, or the matcher that describes it
+	 * @param actual      The actual value
+	 */
+	static void report(@NotNull Description description, @NotNull String variant, @NotNull Kind kind,
+			@NotNull Object expected, @Nullable Object actual) {
+		if (description instanceof Collector) {
+			Collector collector = (Collector) description;
+			collector.path = collector.path.append(variant);
+			collector.kind = kind;
+			collector.expected = expected;
+			collector.actual = actual;
+		}
+	}
+
+	/**
+	 * Collects reported failures while a mismatch is described. Since it discards all text, no descriptions are
+	 * rendered in the process
+	 */
+	static final class Collector implements Description {
+		private List<String> path = List.empty();
+
+		private Kind kind;
+
+		private Object expected;
+
+		private Object actual;
+
+		@Override
+		public Description appendText(String text) {
+			return this;
+		}
+
+		@Override
+		public Description appendDescriptionOf(SelfDescribing value) {
+			return this;
+		}
+
+		@Override
+		public Description appendValue(Object value) {
+			return this;
+		}
+
+		@SafeVarargs
+		@Override
+		public final <T> Description appendValueList(String start, String separator, String end, T... values) {
+			return this;
+		}
+
+		@Override
+		public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+			return this;
+		}
+
+		@Override
+		public Description appendList(String start, String separator, String end,
+				Iterable<? extends SelfDescribing> values) {
+			return this;
+		}
+	}
+}
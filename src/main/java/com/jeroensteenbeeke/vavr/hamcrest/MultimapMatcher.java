@@ -0,0 +1,184 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Option;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for matchers of Vavr's Multimap. Each matcher looks at the values of a single key, which are taken
+ * from the Multimap with {@code get}: the container that holds them is matched as is, and the Multimap is never
+ * flattened into key-value pairs
+ *
+ * @param <M> The type of Multimap matched
+ */
+abstract class MultimapMatcher<M extends Multimap<?, ?>> extends TypeSafeDiagnosingMatcher<M> {
+	MultimapMatcher() {
+		super(Multimap.class);
+	}
+
+	/**
+	 * Starts a mismatch description about the values of the given key, such as "is a HashMultimap with"
+	 *
+	 * @param subject             The Multimap that was matched
+	 * @param expected            The expectation that was not met
+	 * @param actual              The actual value
+	 * @param mismatchDescription The description to append to
+	 * @return The description
+	 */
+	@NotNull
+	static Description describeMultimap(
+			@NotNull Multimap<?, ?> subject, @NotNull Object expected, @NotNull Object actual,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, expected,
+				actual);
+		return TraversableMatcher.describeCollection(subject, mismatchDescription);
+	}
+
+	/**
+	 * Matches a Multimap that has the given number of values for a key. A key without values has zero values
+	 *
+	 * @param <K> The type of key
+	 */
+	static final class ValueCount<K> extends MultimapMatcher<Multimap<K, ?>> {
+		private final K key;
+
+		private final int count;
+
+		private volatile CachedDescription cachedDescription;
+
+		ValueCount(@NotNull K key, int count) {
+			this.key = key;
+			this.count = count;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Multimap<K, ?> subject, @NotNull Description mismatchDescription) {
+			int actual = subject.get(key).map(Traversable::size).getOrElse(0);
+
+			if (actual == count) {
+				return true;
+			}
+
+			describeMultimap(subject, count, actual, mismatchDescription).appendText(" with ")
+					.appendText(String.valueOf(actual)).appendText(actual == 1 ? " value" : " values")
+					.appendText(" for key ").appendDescriptionOf(BoundedValue.of(key));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Multimap with ").appendText(String.valueOf(count))
+					.appendText(count == 1 ? " value" : " values").appendText(" for key ")
+					.appendDescriptionOf(BoundedValue.of(key));
+		}
+	}
+
+	/**
+	 * Matches a Multimap that has the given value for a key. The value is looked up with the {@code contains} method
+	 * of the container that holds the values of the key, which takes constant or logarithmic time for a Multimap
+	 * backed by sets. If the global {@link Equivalence} is not based on {@code equals}, the values of the key are
+	 * compared one by one instead, so the outcome agrees with {@code containsEntry}
+	 *
+	 * @param <K> The type of key
+	 * @param <V> The type of value
+	 */
+	static final class ContainsValue<K, V> extends MultimapMatcher<Multimap<K, V>> {
+		private final K key;
+
+		private final V value;
+
+		private volatile CachedDescription cachedDescription;
+
+		ContainsValue(@NotNull K key, @NotNull V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Multimap<K, V> subject, @NotNull Description mismatchDescription) {
+			Option<Traversable<V>> values = subject.get(key);
+
+			if (values.isEmpty()) {
+				describeMultimap(subject, this, subject, mismatchDescription).appendText(" without key ")
+						.appendDescriptionOf(BoundedValue.of(key));
+				return false;
+			}
+
+			if (Equivalence.isGlobalEquality() ? values.get().contains(value)
+					: values.get().exists(actual -> Equivalence.test(null, value, actual))) {
+				return true;
+			}
+
+			describeMultimap(subject, value, values.get(), mismatchDescription).appendText(" without value ")
+					.appendDescriptionOf(BoundedValue.of(value)).appendText(" for key ")
+					.appendDescriptionOf(BoundedValue.of(key));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Multimap with value ").appendDescriptionOf(BoundedValue.of(value))
+					.appendText(" for key ").appendDescriptionOf(BoundedValue.of(key));
+		}
+	}
+
+	/**
+	 * Matches a Multimap whose values for a key, as a collection, satisfy the given matcher
+	 *
+	 * @param <K> The type of key
+	 * @param <V> The type of value
+	 */
+	static final class ValuesMatching<K, V> extends MultimapMatcher<Multimap<K, V>> {
+		private final K key;
+
+		private final Matcher<? super Traversable<V>> matcher;
+
+		private final MatchMemo<Multimap<K, V>, Boolean> innerResults = new MatchMemo<>();
+
+		ValuesMatching(@NotNull K key, @NotNull Matcher<? super Traversable<V>> matcher) {
+			this.key = key;
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Multimap<K, V> subject, @NotNull Description mismatchDescription) {
+			Option<Traversable<V>> values = subject.get(key);
+
+			if (values.isEmpty()) {
+				describeMultimap(subject, this, subject, mismatchDescription).appendText(" without key ")
+						.appendDescriptionOf(BoundedValue.of(key));
+				return false;
+			}
+
+			if (MatchMemo.matchesInner(innerResults, subject, matcher, values.get(), mismatchDescription)) {
+				return true;
+			}
+
+			describeMultimap(subject, matcher, values.get(), mismatchDescription).appendText(" whose values for key ")
+					.appendDescriptionOf(BoundedValue.of(key)).appendText(" do not match because ");
+			MatchMemo.describeInnerMismatch(matcher, values.get(), mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Multimap whose values for key ").appendDescriptionOf(BoundedValue.of(key))
+					.appendText(" match ").appendDescriptionOf(matcher);
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.control.Option;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Base class for matchers of Vavr's Option. Passes the expected type to Hamcrest explicitly, so constructing
+ * a matcher does not require a reflective lookup of the {@code matchesSafely} signature
+ *
+ * @param <O> The type of Option matched
+ */
+abstract class OptionMatcher<O extends Option<?>> extends TypeSafeDiagnosingMatcher<O> {
+	OptionMatcher() {
+		super(Option.class);
+	}
+
+	/**
+	 * Matches an Option containing any value
+	 */
+	static final class Defined extends OptionMatcher<Option<?>> {
+		@Override
+		protected boolean matchesSafely(@NotNull Option<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isDefined()) {
+				return true;
+			} else {
+				MatchResult.report(mismatchDescription, "None", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is an empty Option");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an Option with a value");
+		}
+	}
+
+	/**
+	 * Matches an Option containing no value
+	 */
+	static final class Empty extends OptionMatcher<Option<?>> {
+		@Override
+		protected boolean matchesSafely(@NotNull Option<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isEmpty()) {
+				return true;
+			} else {
+				MatchResult.report(mismatchDescription, "Some", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is an Option with a value equal to ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an empty Option");
+		}
+	}
+
+	/**
+	 * Matches an Option containing the given value
+	 *
+	 * @param <T> The type of value that should be in the Option
+	 */
+	static final class DefinedWithValue<T> extends OptionMatcher<Option<T>> {
+		private final T value;
+
+		private final Equivalence<? super T> equivalence;
+
+		private volatile CachedDescription cachedDescription;
+
+		DefinedWithValue(@NotNull T value, @Nullable Equivalence<? super T> equivalence) {
+			this.value = value;
+			this.equivalence = equivalence;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Option<T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isDefined()) {
+				T actualValue = subject.get();
+				if (Equivalence.test(equivalence, value, actualValue)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Some", MatchResult.Kind.VALUE_MISMATCH,
+							value, actualValue);
+					mismatchDescription.appendText("is an Option with a value equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "None", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is an empty Option");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is an Option with a value equal to ").appendDescriptionOf(BoundedValue.of(value));
+		}
+	}
+
+	/**
+	 * Matches an Option whose contents satisfy the given matcher
+	 *
+	 * @param <T> The type of value that should be in the Option
+	 */
+	static final class DefinedMatching<T> extends OptionMatcher<Option<T>> {
+		private final Matcher<T> matcher;
+
+		private final MatchMemo<Option<T>, Boolean> innerResults = new MatchMemo<>();
+
+		DefinedMatching(@NotNull Matcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Option<T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isDefined()) {
+				T actualValue = subject.get();
+				if (MatchMemo.matchesInner(innerResults, subject, matcher, actualValue, mismatchDescription)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Some", MatchResult.Kind.VALUE_MISMATCH,
+							matcher, actualValue);
+					mismatchDescription.appendText("is an Option with value ").appendDescriptionOf(BoundedValue.of(actualValue))
+							.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "None", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is an empty Option");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is an Option with a value matching ");
+			matcher.describeTo(description);
+		}
+	}
+
+	/**
+	 * Matches an Option with a value matching the given Predicate
+	 *
+	 * @param <T> The type of value that should be in the Option
+	 */
+	static final class DefinedMatchingPredicate<T> extends OptionMatcher<Option<T>> {
+		private final String predicateDescription;
+
+		private final Predicate<T> predicate;
+
+		private volatile CachedDescription cachedDescription;
+
+		DefinedMatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+			this.predicateDescription = predicateDescription;
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Option<T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isDefined()) {
+				if (predicate.test(subject.get())) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Some", MatchResult.Kind.VALUE_MISMATCH,
+							this, subject.get());
+					mismatchDescription.appendText("is an Option with a value not matching ")
+							.appendDescriptionOf(BoundedValue.of(predicateDescription))
+							.appendText(", because the value is equal to ").appendDescriptionOf(BoundedValue.of(subject.get()));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "None", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is an empty Option");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is an Option with a value matching ")
+					.appendDescriptionOf(BoundedValue.of(predicateDescription));
+		}
+	}
+
+	/**
+	 * Matches an Option containing a number that passes the given primitive check
+	 */
+	static final class DefinedWithPrimitive extends OptionMatcher<Option<?>> {
+		private final PrimitiveValue<?> check;
+
+		private volatile CachedDescription cachedDescription;
+
+		DefinedWithPrimitive(@NotNull PrimitiveValue<?> check) {
+			this.check = check;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Option<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isDefined()) {
+				Object actualValue = subject.get();
+				if (check.test(actualValue)) {
+					return true;
+				} else if (check.isPredicate()) {
+					MatchResult.report(mismatchDescription, "Some", MatchResult.Kind.VALUE_MISMATCH, this, actualValue);
+					mismatchDescription.appendText("is an Option with a value not matching ").appendDescriptionOf(check)
+							.appendText(", because the value is equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				} else {
+					MatchResult.report(mismatchDescription, "Some", MatchResult.Kind.VALUE_MISMATCH,
+							check.expectation(), actualValue);
+					mismatchDescription.appendText("is an Option with a value equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "None", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is an empty Option");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText(check.isPredicate() ? "is an Option with a value matching "
+					: "is an Option with a value equal to ").appendDescriptionOf(check);
+		}
+	}
+}
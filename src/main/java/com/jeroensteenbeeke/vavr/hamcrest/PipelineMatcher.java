@@ -0,0 +1,179 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.Iterator;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Base class for matchers of a lazy pipeline, given as a function that builds the pipeline on top of a source
+ * Iterator. Like a {@link LazyMatcher}, the matcher evaluates the pipeline on demand: it builds the pipeline over an
+ * instrumented source, consumes the result, and remembers the outcome of a failed match so the pipeline is not
+ * evaluated again to describe the mismatch
+ *
+ * @param <S> The type of pipeline matched
+ */
+abstract class PipelineMatcher<S extends Function<?, ?>> extends TypeSafeDiagnosingMatcher<S> {
+	PipelineMatcher() {
+		super(Function.class);
+	}
+
+	/**
+	 * Consumes the result of a pipeline, if it is a lazy collection or value
+	 *
+	 * @param result The result of the pipeline
+	 */
+	static void consume(@Nullable Object result) {
+		if (result instanceof Iterable) {
+			java.util.Iterator<?> iterator = ((Iterable<?>) result).iterator();
+
+			while (iterator.hasNext()) {
+				iterator.next();
+			}
+		} else if (result instanceof java.util.Iterator) {
+			java.util.Iterator<?> iterator = (java.util.Iterator<?>) result;
+
+			while (iterator.hasNext()) {
+				iterator.next();
+			}
+		}
+	}
+
+	/**
+	 * Thrown by a counting source to abort a pipeline that pulls more elements than allowed. It has no stack trace, as
+	 * it never leaves the matcher
+	 */
+	static final class LimitExceeded extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		LimitExceeded() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * An Iterator that counts the elements pulled from it, and aborts the pipeline once more elements are pulled than
+	 * allowed. An infinite source therefore never makes the matcher hang
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class CountingIterator<T> implements Iterator<T> {
+		private final java.util.Iterator<? extends T> source;
+
+		private final long limit;
+
+		private long pulled;
+
+		CountingIterator(@NotNull java.util.Iterator<? extends T> source, long limit) {
+			this.source = source;
+			this.limit = limit;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (pulled > limit) {
+				throw new LimitExceeded();
+			}
+
+			return source.hasNext();
+		}
+
+		@Override
+		public T next() {
+			if (++pulled > limit) {
+				throw new LimitExceeded();
+			}
+
+			return source.next();
+		}
+
+		/**
+		 * Determines whether more elements were pulled than allowed, even if the pipeline caught the exception
+		 *
+		 * @return {@code true} if the limit was exceeded
+		 */
+		boolean exceeded() {
+			return pulled > limit;
+		}
+
+		/**
+		 * Returns the number of elements pulled
+		 *
+		 * @return The number of elements
+		 */
+		long pulled() {
+			return pulled;
+		}
+	}
+
+	/**
+	 * Matches a pipeline that pulls at most the given number of elements from its source while its result is
+	 * consumed
+	 *
+	 * @param <T> The type of element of the source
+	 */
+	static final class EvaluatesAtMost<T> extends PipelineMatcher<Function<? super Iterator<T>, ?>> {
+		private final long count;
+
+		private final Iterable<? extends T> source;
+
+		private final MatchMemo<Function<? super Iterator<T>, ?>, Long> pulls = new MatchMemo<>();
+
+		private volatile CachedDescription cachedDescription;
+
+		EvaluatesAtMost(long count, @NotNull Iterable<? extends T> source) {
+			if (count < 0) {
+				throw new IllegalArgumentException("count must not be negative, but is " + count);
+			}
+
+			this.count = count;
+			this.source = source;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Function<? super Iterator<T>, ?> subject, @NotNull Description mismatchDescription) {
+			Long pulled = pulls.recall(subject, mismatchDescription);
+
+			if (pulled == null) {
+				CountingIterator<T> counting = new CountingIterator<>(source.iterator(), count);
+
+				try {
+					consume(subject.apply(counting));
+				} catch (RuntimeException e) {
+					if (!counting.exceeded()) {
+						throw e;
+					}
+				}
+
+				if (!counting.exceeded()) {
+					pulls.forget();
+					return true;
+				}
+
+				pulled = counting.pulled();
+				pulls.rememberFailure(subject, pulled, mismatchDescription);
+			}
+
+			MatchResult.report(mismatchDescription, "Pipeline", MatchResult.Kind.VALUE_MISMATCH, count, pulled);
+			mismatchDescription.appendText("is a pipeline that evaluates more than ")
+					.appendText(String.valueOf(count)).appendText(count == 1 ? " element" : " elements")
+					.appendText(" of its source");
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a pipeline that evaluates at most ").appendText(String.valueOf(count))
+					.appendText(count == 1 ? " element" : " elements").appendText(" of its source");
+		}
+	}
+}
@@ -0,0 +1,294 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * A check of a boxed number against a primitive expectation. The expected value is stored unboxed, and the
+ * actual value is unboxed before it is compared, so a successful check neither allocates nor goes through
+ * {@code equals} or a generic {@code Predicate}.
+ * <p>
+ * A check either compares against an expected value, which is described as that value, or tests a primitive
+ * predicate, which is described by its description.
+ * <p>
+ * Matchers using a check accept contents of any type, so they can be used wherever the generic matcher for a boxed
+ * value could be. The boxed type is checked when the value is tested: like {@link Integer#equals(Object)}, an int
+ * check never passes for a {@link Long} or any other type.
+ *
+ * @param <T> The boxed type of the checked value
+ */
+abstract class PrimitiveValue<T extends Number> implements SelfDescribing {
+	private final Class<T> type;
+
+	private PrimitiveValue(@NotNull Class<T> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Checks the given value. A {@code null} value, or a value of another type, never passes, and is not unboxed
+	 *
+	 * @param actual The value to check
+	 * @return {@code true} if the value passes the check, {@code false} otherwise
+	 */
+	final boolean test(@Nullable Object actual) {
+		return type.isInstance(actual) && testValue(type.cast(actual));
+	}
+
+	/**
+	 * Checks the given value, which is not {@code null}
+	 *
+	 * @param actual The boxed value to check
+	 * @return {@code true} if the value passes the check, {@code false} otherwise
+	 */
+	abstract boolean testValue(@NotNull T actual);
+
+	/**
+	 * Determines whether this check tests a predicate, rather than comparing against an expected value
+	 *
+	 * @return {@code true} if this check tests a predicate, {@code false} otherwise
+	 */
+	boolean isPredicate() {
+		return false;
+	}
+
+	/**
+	 * Returns what a failed check expected, for use in a {@link MatchResult}
+	 *
+	 * @return The expected value, or this check if it cannot be expressed as a single value
+	 */
+	@NotNull
+	Object expectation() {
+		return this;
+	}
+
+	/**
+	 * Creates a check for the given int
+	 *
+	 * @param expected The expected value
+	 * @return A check
+	 */
+	@NotNull
+	static PrimitiveValue<Integer> equalTo(int expected) {
+		return new IntEqualTo(expected);
+	}
+
+	/**
+	 * Creates a check for the given long
+	 *
+	 * @param expected The expected value
+	 * @return A check
+	 */
+	@NotNull
+	static PrimitiveValue<Long> equalTo(long expected) {
+		return new LongEqualTo(expected);
+	}
+
+	/**
+	 * Creates a check for the given double. Like {@link Double#equals(Object)}, this considers {@code NaN} equal to
+	 * itself, and {@code 0.0} different from {@code -0.0}
+	 *
+	 * @param expected The expected value
+	 * @return A check
+	 */
+	@NotNull
+	static PrimitiveValue<Double> equalTo(double expected) {
+		return new DoubleEqualTo(expected);
+	}
+
+	/**
+	 * Creates a check for a double that may differ from the given double by at most the given tolerance
+	 *
+	 * @param expected  The expected value
+	 * @param tolerance The maximum absolute difference
+	 * @return A check
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
+	 */
+	@NotNull
+	static PrimitiveValue<Double> closeTo(double expected, double tolerance) {
+		if (!(tolerance >= 0.0)) {
+			throw new IllegalArgumentException("tolerance must be a non-negative number, but is " + tolerance);
+		}
+
+		return new DoubleCloseTo(expected, tolerance);
+	}
+
+	/**
+	 * Creates a check that tests ints against the given predicate
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to test
+	 * @return A check
+	 */
+	@NotNull
+	static PrimitiveValue<Integer> matchingInt(
+			@NotNull String predicateDescription, @NotNull IntPredicate predicate) {
+		return new Matching<Integer>(Integer.class, predicateDescription) {
+			@Override
+			boolean testValue(@NotNull Integer actual) {
+				return predicate.test(actual);
+			}
+		};
+	}
+
+	/**
+	 * Creates a check that tests longs against the given predicate
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to test
+	 * @return A check
+	 */
+	@NotNull
+	static PrimitiveValue<Long> matchingLong(
+			@NotNull String predicateDescription, @NotNull LongPredicate predicate) {
+		return new Matching<Long>(Long.class, predicateDescription) {
+			@Override
+			boolean testValue(@NotNull Long actual) {
+				return predicate.test(actual);
+			}
+		};
+	}
+
+	/**
+	 * Creates a check that tests doubles against the given predicate
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to test
+	 * @return A check
+	 */
+	@NotNull
+	static PrimitiveValue<Double> matchingDouble(
+			@NotNull String predicateDescription, @NotNull DoublePredicate predicate) {
+		return new Matching<Double>(Double.class, predicateDescription) {
+			@Override
+			boolean testValue(@NotNull Double actual) {
+				return predicate.test(actual);
+			}
+		};
+	}
+
+	private static final class IntEqualTo extends PrimitiveValue<Integer> {
+		private final int expected;
+
+		private IntEqualTo(int expected) {
+			super(Integer.class);
+			this.expected = expected;
+		}
+
+		@Override
+		boolean testValue(@NotNull Integer actual) {
+			return actual == expected;
+		}
+
+		@NotNull
+		@Override
+		Object expectation() {
+			return expected;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendDescriptionOf(BoundedValue.of(expected));
+		}
+	}
+
+	private static final class LongEqualTo extends PrimitiveValue<Long> {
+		private final long expected;
+
+		private LongEqualTo(long expected) {
+			super(Long.class);
+			this.expected = expected;
+		}
+
+		@Override
+		boolean testValue(@NotNull Long actual) {
+			return actual == expected;
+		}
+
+		@NotNull
+		@Override
+		Object expectation() {
+			return expected;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendDescriptionOf(BoundedValue.of(expected));
+		}
+	}
+
+	private static final class DoubleEqualTo extends PrimitiveValue<Double> {
+		private final double expected;
+
+		private final long expectedBits;
+
+		private DoubleEqualTo(double expected) {
+			super(Double.class);
+			this.expected = expected;
+			this.expectedBits = Double.doubleToLongBits(expected);
+		}
+
+		@Override
+		boolean testValue(@NotNull Double actual) {
+			return Double.doubleToLongBits(actual) == expectedBits;
+		}
+
+		@NotNull
+		@Override
+		Object expectation() {
+			return expected;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendDescriptionOf(BoundedValue.of(expected));
+		}
+	}
+
+	private static final class DoubleCloseTo extends PrimitiveValue<Double> {
+		private final double expected;
+
+		private final double tolerance;
+
+		private DoubleCloseTo(double expected, double tolerance) {
+			super(Double.class);
+			this.expected = expected;
+			this.tolerance = tolerance;
+		}
+
+		@Override
+		boolean testValue(@NotNull Double actual) {
+			return Math.abs(actual - expected) <= tolerance;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendDescriptionOf(BoundedValue.of(expected)).appendText(" within ")
+					.appendDescriptionOf(BoundedValue.of(tolerance));
+		}
+	}
+
+	private abstract static class Matching<T extends Number> extends PrimitiveValue<T> {
+		private final String predicateDescription;
+
+		private Matching(@NotNull Class<T> type, @NotNull String predicateDescription) {
+			super(type);
+			this.predicateDescription = predicateDescription;
+		}
+
+		@Override
+		boolean isPredicate() {
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendDescriptionOf(BoundedValue.of(predicateDescription));
+		}
+	}
+}
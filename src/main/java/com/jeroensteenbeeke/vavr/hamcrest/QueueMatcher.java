@@ -0,0 +1,239 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Option;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+
+/**
+ * Base class for matchers of the order in which Vavr's Queue and PriorityQueue dequeue their elements. The elements
+ * are visited with the iterator of the queue, which follows {@code head} and {@code tail} of the persistent
+ * structure, so no dequeued copies are kept and the queue is never copied to a List. Walking a PriorityQueue takes
+ * logarithmic time per element, and only the current and previous element are referenced. The outcome of a failed
+ * match is remembered, so describing the mismatch does not walk the queue again.
+ *
+ * @param <S> The type of queue matched
+ */
+abstract class QueueMatcher<S extends Traversable<?>> extends TypeSafeDiagnosingMatcher<S> {
+	final String collection;
+
+	QueueMatcher(@NotNull Class<?> type, @NotNull String collection) {
+		super(type);
+		this.collection = collection;
+	}
+
+	/**
+	 * Describes an element of a queue that does not match
+	 *
+	 * @param subject             The queue that was matched
+	 * @param index               The position of the element in dequeue order
+	 * @param expected            The expected element, or the matcher that was not satisfied
+	 * @param actual              The element
+	 * @param mismatchDescription The description to append to
+	 * @return The description
+	 */
+	@NotNull
+	static Description describeElement(
+			@NotNull Traversable<?> subject, int index, @NotNull Object expected, @Nullable Object actual,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, subject.stringPrefix() + "[" + index + "]",
+				MatchResult.Kind.VALUE_MISMATCH, expected, actual);
+		return TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" dequeuing ")
+				.appendDescriptionOf(BoundedValue.of(actual)).appendText(" at position ")
+				.appendText(String.valueOf(index));
+	}
+
+	/**
+	 * Matches a queue with a head that satisfies the given matcher
+	 *
+	 * @param <T> The type of element
+	 * @param <Q> The type of queue
+	 */
+	static final class Head<T, Q extends Traversable<? extends T>> extends QueueMatcher<Q> {
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<Q, Boolean> innerResults = new MatchMemo<>();
+
+		Head(@NotNull Class<?> type, @NotNull String collection, @NotNull Matcher<? super T> matcher) {
+			super(type, collection);
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Q subject, @NotNull Description mismatchDescription) {
+			if (subject.isEmpty()) {
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						matcher, subject);
+				mismatchDescription.appendText("is an empty ").appendText(subject.stringPrefix());
+				return false;
+			}
+
+			T head = subject.head();
+
+			if (MatchMemo.matchesInner(innerResults, subject, matcher, head, mismatchDescription)) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, matcher,
+					head);
+			TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" with head ")
+					.appendDescriptionOf(BoundedValue.of(head)).appendText(" not matching because ");
+			MatchMemo.describeInnerMismatch(matcher, head, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a ").appendText(collection).appendText(" with a head matching ")
+					.appendDescriptionOf(matcher);
+		}
+	}
+
+	/**
+	 * Matches a queue that dequeues exactly the given elements, in the given order. The queue is walked up to the
+	 * first element that differs, or one element past the expected elements
+	 *
+	 * @param <T> The type of element
+	 * @param <Q> The type of queue
+	 */
+	static final class DequeuesInOrder<T, Q extends Traversable<? extends T>> extends QueueMatcher<Q> {
+		private final T[] elements;
+
+		private final MatchMemo<Q, Tuple2<Integer, Option<T>>> firstMismatch = new MatchMemo<>();
+
+		private volatile CachedDescription cachedDescription;
+
+		DequeuesInOrder(@NotNull Class<?> type, @NotNull String collection, @NotNull T[] elements) {
+			super(type, collection);
+			this.elements = elements;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Q subject, @NotNull Description mismatchDescription) {
+			Tuple2<Integer, Option<T>> mismatch = firstMismatch.recall(subject, mismatchDescription);
+
+			if (mismatch == null) {
+				Iterator<? extends T> iterator = subject.iterator();
+
+				for (int index = 0; mismatch == null && index <= elements.length; index++) {
+					if (!iterator.hasNext()) {
+						if (index < elements.length) {
+							mismatch = Tuple.of(index, Option.none());
+						}
+						break;
+					}
+
+					T actual = iterator.next();
+
+					if (index == elements.length || !Equivalence.test(null, elements[index], actual)) {
+						mismatch = Tuple.of(index, Option.some(actual));
+					}
+				}
+
+				if (mismatch == null) {
+					firstMismatch.forget();
+					return true;
+				}
+
+				firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+			}
+
+			int index = mismatch._1;
+
+			if (mismatch._2.isEmpty()) {
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						elements.length, index);
+				TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" of ")
+						.appendText(String.valueOf(index)).appendText(index == 1 ? " element" : " elements");
+			} else if (index == elements.length) {
+				describeElement(subject, index, this, mismatch._2.get(), mismatchDescription)
+						.appendText(", where no more elements were expected");
+			} else {
+				describeElement(subject, index, elements[index], mismatch._2.get(), mismatchDescription)
+						.appendText(", where ").appendDescriptionOf(BoundedValue.of(elements[index]))
+						.appendText(" was expected");
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a ").appendText(collection).appendText(" dequeuing ")
+					.appendDescriptionOf(BoundedValue.of(elements));
+		}
+	}
+
+	/**
+	 * Matches a queue that dequeues its elements in the order of the given Comparator: no element is dequeued after
+	 * an element it compares less than. The queue is walked up to the first element that is out of order
+	 *
+	 * @param <T> The type of element
+	 * @param <Q> The type of queue
+	 */
+	static final class OrderedBy<T, Q extends Traversable<? extends T>> extends QueueMatcher<Q> {
+		private final Comparator<? super T> comparator;
+
+		private final MatchMemo<Q, Tuple3<Integer, T, T>> firstMismatch = new MatchMemo<>();
+
+		OrderedBy(@NotNull Class<?> type, @NotNull String collection, @NotNull Comparator<? super T> comparator) {
+			super(type, collection);
+			this.comparator = comparator;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Q subject, @NotNull Description mismatchDescription) {
+			Tuple3<Integer, T, T> mismatch = firstMismatch.recall(subject, mismatchDescription);
+
+			if (mismatch == null) {
+				Iterator<? extends T> iterator = subject.iterator();
+
+				if (iterator.hasNext()) {
+					T previous = iterator.next();
+
+					for (int index = 1; mismatch == null && iterator.hasNext(); index++) {
+						T actual = iterator.next();
+
+						if (comparator.compare(previous, actual) > 0) {
+							mismatch = Tuple.of(index, previous, actual);
+						}
+
+						previous = actual;
+					}
+				}
+
+				if (mismatch == null) {
+					firstMismatch.forget();
+					return true;
+				}
+
+				firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+			}
+
+			describeElement(subject, mismatch._1, this, mismatch._3, mismatchDescription).appendText(" after ")
+					.appendDescriptionOf(BoundedValue.of(mismatch._2));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a ").appendText(collection)
+					.appendText(" dequeuing its elements in the order of the given comparator");
+		}
+	}
+}
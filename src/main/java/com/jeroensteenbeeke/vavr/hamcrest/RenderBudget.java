@@ -0,0 +1,152 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Limits how much of a value is rendered when a matcher describes it. Rendering a value with Hamcrest normally
+ * means calling {@code toString()} on it, which for a collection with millions of elements builds a string of
+ * many megabytes. Values rendered by the matchers in this library never exceed the global budget: longer
+ * values are truncated, and followed by a summary of their size and hash code.
+ * <p>
+ * Budgets are immutable. The global budget can be replaced at any time, for example from a test setup method:
+ *
+ * <pre>{@code
+ * RenderBudget previous = RenderBudget.setGlobal(RenderBudget.defaults().withMaxElements(10));
+ * }</pre>
+ */
+public final class RenderBudget {
+	/**
+	 * The default maximum number of characters rendered for a single value
+	 */
+	public static final int DEFAULT_MAX_CHARACTERS = 10_000;
+
+	/**
+	 * The default maximum number of elements rendered for a single collection
+	 */
+	public static final int DEFAULT_MAX_ELEMENTS = 100;
+
+	/**
+	 * The default maximum depth of nested collections and containers rendered
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 10;
+
+	private static final RenderBudget DEFAULTS = new RenderBudget(DEFAULT_MAX_CHARACTERS, DEFAULT_MAX_ELEMENTS,
+			DEFAULT_MAX_DEPTH);
+
+	private static volatile RenderBudget global = DEFAULTS;
+
+	private final int maxCharacters;
+
+	private final int maxElements;
+
+	private final int maxDepth;
+
+	private RenderBudget(int maxCharacters, int maxElements, int maxDepth) {
+		if (maxCharacters <= 0) {
+			throw new IllegalArgumentException("maxCharacters must be positive, but is " + maxCharacters);
+		}
+		if (maxElements <= 0) {
+			throw new IllegalArgumentException("maxElements must be positive, but is " + maxElements);
+		}
+		if (maxDepth <= 0) {
+			throw new IllegalArgumentException("maxDepth must be positive, but is " + maxDepth);
+		}
+
+		this.maxCharacters = maxCharacters;
+		this.maxElements = maxElements;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Returns the default budget
+	 *
+	 * @return A budget with the default limits
+	 */
+	@NotNull
+	public static RenderBudget defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Returns the budget currently used by all matchers
+	 *
+	 * @return The global budget
+	 */
+	@NotNull
+	public static RenderBudget global() {
+		return global;
+	}
+
+	/**
+	 * Replaces the budget used by all matchers
+	 *
+	 * @param budget The new global budget
+	 * @return The budget that was global before this call, so it can be restored
+	 */
+	@NotNull
+	public static RenderBudget setGlobal(@NotNull RenderBudget budget) {
+		RenderBudget previous = global;
+		global = budget;
+		return previous;
+	}
+
+	/**
+	 * Creates a new budget with the given maximum number of characters per value
+	 *
+	 * @param maxCharacters The maximum number of characters, must be positive
+	 * @return A new budget
+	 */
+	@NotNull
+	public RenderBudget withMaxCharacters(int maxCharacters) {
+		return new RenderBudget(maxCharacters, maxElements, maxDepth);
+	}
+
+	/**
+	 * Creates a new budget with the given maximum number of elements per collection
+	 *
+	 * @param maxElements The maximum number of elements, must be positive
+	 * @return A new budget
+	 */
+	@NotNull
+	public RenderBudget withMaxElements(int maxElements) {
+		return new RenderBudget(maxCharacters, maxElements, maxDepth);
+	}
+
+	/**
+	 * Creates a new budget with the given maximum nesting depth
+	 *
+	 * @param maxDepth The maximum depth, must be positive
+	 * @return A new budget
+	 */
+	@NotNull
+	public RenderBudget withMaxDepth(int maxDepth) {
+		return new RenderBudget(maxCharacters, maxElements, maxDepth);
+	}
+
+	/**
+	 * Returns the maximum number of characters rendered for a single value
+	 *
+	 * @return The maximum number of characters
+	 */
+	public int getMaxCharacters() {
+		return maxCharacters;
+	}
+
+	/**
+	 * Returns the maximum number of elements rendered for a single collection
+	 *
+	 * @return The maximum number of elements
+	 */
+	public int getMaxElements() {
+		return maxElements;
+	}
+
+	/**
+	 * Returns the maximum depth of nested collections and containers rendered
+	 *
+	 * @return The maximum depth
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+}
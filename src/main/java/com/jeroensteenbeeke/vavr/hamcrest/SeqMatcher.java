@@ -0,0 +1,339 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Base class for matchers of Vavr's Seq. The matchers walk the persistent structure itself, once, and stop at the
+ * first element that does not match, instead of converting the Seq to a Java collection first.
+ * <p>
+ * A failed match remembers the index of the first mismatch, so describing the mismatch does not compare the
+ * elements before it a second time.
+ *
+ * @param <S> The type of Seq matched
+ */
+abstract class SeqMatcher<S extends Seq<?>> extends TypeSafeDiagnosingMatcher<S> {
+	SeqMatcher() {
+		super(Seq.class);
+	}
+
+	/**
+	 * Describes a Seq that ran out of elements before the given index
+	 *
+	 * @param subject             The Seq that was matched
+	 * @param expected            The matcher that expected more elements
+	 * @param length              The number of elements in the Seq
+	 * @param mismatchDescription The description to append to
+	 */
+	static void describeTooShort(
+			@NotNull Seq<?> subject, @NotNull Matcher<?> expected, int length,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, expected,
+				subject);
+		mismatchDescription.appendText("is a Seq with only ").appendText(String.valueOf(length))
+				.appendText(length == 1 ? " element" : " elements");
+	}
+
+	/**
+	 * Describes an element of a Seq that does not match
+	 *
+	 * @param subject             The Seq that was matched
+	 * @param index               The index of the element
+	 * @param expected            The expected value, or the matcher it should satisfy
+	 * @param actual              The element
+	 * @param mismatchDescription The description to append to
+	 */
+	static void describeElement(
+			@NotNull Seq<?> subject, int index, @NotNull Object expected, @Nullable Object actual,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, subject.stringPrefix() + "[" + index + "]",
+				MatchResult.Kind.VALUE_MISMATCH, expected, actual);
+		mismatchDescription.appendText("is a Seq with element ").appendDescriptionOf(BoundedValue.of(actual))
+				.appendText(" at index ").appendText(String.valueOf(index));
+	}
+
+	/**
+	 * Matches a Seq that contains exactly the given elements, in the given order
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class ContainsInOrder<T> extends SeqMatcher<Seq<? extends T>> {
+		private final T[] elements;
+
+		private final MatchMemo<Seq<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		private volatile CachedDescription cachedDescription;
+
+		ContainsInOrder(@NotNull T[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Seq<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer known = firstMismatch.recall(subject, mismatchDescription);
+			Iterator<? extends T> iterator = subject.iterator();
+
+			for (int index = 0; index < elements.length; index++) {
+				if (!iterator.hasNext()) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeTooShort(subject, this, index, mismatchDescription);
+					return false;
+				}
+
+				T actual = iterator.next();
+				boolean mismatch = known != null ? known == index : !Equivalence.test(null, elements[index], actual);
+
+				if (mismatch) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeElement(subject, index, elements[index], actual, mismatchDescription);
+					mismatchDescription.appendText(", where ")
+							.appendDescriptionOf(BoundedValue.of(elements[index])).appendText(" was expected");
+					return false;
+				}
+			}
+
+			if (iterator.hasNext()) {
+				firstMismatch.rememberFailure(subject, elements.length, mismatchDescription);
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						this, subject);
+				mismatchDescription.appendText("is a Seq with more than ")
+						.appendText(String.valueOf(elements.length)).appendText(" elements");
+				return false;
+			}
+
+			firstMismatch.forget();
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Seq containing ").appendDescriptionOf(BoundedValue.of(elements))
+					.appendText(" in order");
+		}
+	}
+
+	/**
+	 * Matches a Seq whose elements satisfy the given matchers, in the given order, without any other elements
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class ContainsMatchingInOrder<T> extends SeqMatcher<Seq<? extends T>> {
+		private final Matcher<? super T>[] matchers;
+
+		private final MatchMemo<Seq<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		ContainsMatchingInOrder(@NotNull Matcher<? super T>[] matchers) {
+			this.matchers = matchers;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Seq<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer known = firstMismatch.recall(subject, mismatchDescription);
+			Iterator<? extends T> iterator = subject.iterator();
+
+			for (int index = 0; index < matchers.length; index++) {
+				if (!iterator.hasNext()) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeTooShort(subject, this, index, mismatchDescription);
+					return false;
+				}
+
+				T actual = iterator.next();
+				boolean mismatch = known != null ? known == index : !matchers[index].matches(actual);
+
+				if (mismatch) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeElement(subject, index, matchers[index], actual, mismatchDescription);
+					mismatchDescription.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matchers[index], actual, mismatchDescription);
+					return false;
+				}
+			}
+
+			if (iterator.hasNext()) {
+				firstMismatch.rememberFailure(subject, matchers.length, mismatchDescription);
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						this, subject);
+				mismatchDescription.appendText("is a Seq with more than ")
+						.appendText(String.valueOf(matchers.length)).appendText(" elements");
+				return false;
+			}
+
+			firstMismatch.forget();
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendList("is a Seq containing [", ", ", "] in order", Arrays.asList(matchers));
+		}
+	}
+
+	/**
+	 * Matches a Seq that starts with the given elements, in the given order. Elements after them are never visited
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class StartsWith<T> extends SeqMatcher<Seq<? extends T>> {
+		private final T[] prefix;
+
+		private final MatchMemo<Seq<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		private volatile CachedDescription cachedDescription;
+
+		StartsWith(@NotNull T[] prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Seq<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer known = firstMismatch.recall(subject, mismatchDescription);
+			Iterator<? extends T> iterator = subject.iterator();
+
+			for (int index = 0; index < prefix.length; index++) {
+				if (!iterator.hasNext()) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeTooShort(subject, this, index, mismatchDescription);
+					return false;
+				}
+
+				T actual = iterator.next();
+				boolean mismatch = known != null ? known == index : !Equivalence.test(null, prefix[index], actual);
+
+				if (mismatch) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeElement(subject, index, prefix[index], actual, mismatchDescription);
+					mismatchDescription.appendText(", where ")
+							.appendDescriptionOf(BoundedValue.of(prefix[index])).appendText(" was expected");
+					return false;
+				}
+			}
+
+			firstMismatch.forget();
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Seq starting with ").appendDescriptionOf(BoundedValue.of(prefix));
+		}
+	}
+
+	/**
+	 * Matches a Seq of which every element satisfies the given matcher
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class EveryElement<T> extends SeqMatcher<Seq<? extends T>> {
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<Seq<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		EveryElement(@NotNull Matcher<? super T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Seq<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer known = firstMismatch.recall(subject, mismatchDescription);
+			Iterator<? extends T> iterator = subject.iterator();
+
+			for (int index = 0; iterator.hasNext(); index++) {
+				T actual = iterator.next();
+				boolean mismatch = known != null ? known == index : !matcher.matches(actual);
+
+				if (mismatch) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeElement(subject, index, matcher, actual, mismatchDescription);
+					mismatchDescription.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matcher, actual, mismatchDescription);
+					return false;
+				}
+			}
+
+			firstMismatch.forget();
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Seq of which every element is ");
+			matcher.describeTo(description);
+		}
+	}
+
+	/**
+	 * Matches a Seq with the given number of elements. The elements of a lazy Seq, such as a Stream, are only counted
+	 * up to one past the expected length
+	 */
+	static final class HasLength extends SeqMatcher<Seq<?>> {
+		private final int length;
+
+		HasLength(int length) {
+			this.length = length;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Seq<?> subject, @NotNull Description mismatchDescription) {
+			if (!subject.isLazy()) {
+				int actualLength = subject.length();
+
+				if (actualLength == length) {
+					return true;
+				}
+
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						length, actualLength);
+				mismatchDescription.appendText("is a Seq of length ").appendText(String.valueOf(actualLength));
+
+				return false;
+			}
+
+			Iterator<?> iterator = subject.iterator();
+			int counted = 0;
+
+			while (counted <= length && iterator.hasNext()) {
+				iterator.next();
+				counted++;
+			}
+
+			if (counted == length) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+					length, subject);
+			if (counted > length) {
+				mismatchDescription.appendText("is a Seq of length greater than ").appendText(String.valueOf(length));
+			} else {
+				mismatchDescription.appendText("is a Seq of length ").appendText(String.valueOf(counted));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Seq of length ").appendText(String.valueOf(length));
+		}
+	}
+}
@@ -0,0 +1,378 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.Traversable;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * Base class for matchers that use the ordering of Vavr's SortedSet and SortedMap. The first and last element of a
+ * TreeSet or TreeMap are found by descending the tree, and a range is checked against them before any element is
+ * visited, so most range assertions take logarithmic time. Vavr does not expose floor or ceiling lookups, so when the
+ * first and last element do not decide a match, elements are visited in order and the iteration stops as soon as
+ * the range is passed.
+ *
+ * @param <S> The type of collection matched
+ * @param <T> The type of element or key that is ordered
+ */
+abstract class SortedMatcher<S extends Traversable<?>, T> extends TypeSafeDiagnosingMatcher<S> {
+	final Ordering<S, T> ordering;
+
+	SortedMatcher(@NotNull Ordering<S, T> ordering) {
+		super(ordering.type);
+		this.ordering = ordering;
+	}
+
+	/**
+	 * Describes the given bounds as a half-open range
+	 *
+	 * @param from        The inclusive lower bound
+	 * @param to          The exclusive upper bound
+	 * @param description The description to append to
+	 */
+	static void describeRange(@NotNull Object from, @NotNull Object to, @NotNull Description description) {
+		description.appendText("[").appendDescriptionOf(BoundedValue.of(from)).appendText(", ")
+				.appendDescriptionOf(BoundedValue.of(to)).appendText(")");
+	}
+
+	/**
+	 * The ordered values of a sorted collection: the elements of a SortedSet, or the keys of a SortedMap
+	 *
+	 * @param <S> The type of collection
+	 * @param <T> The type of value that is ordered
+	 */
+	abstract static class Ordering<S extends Traversable<?>, T> {
+		final Class<?> type;
+
+		final String noun;
+
+		final String collection;
+
+		Ordering(@NotNull Class<?> type, @NotNull String noun, @NotNull String collection) {
+			this.type = type;
+			this.noun = noun;
+			this.collection = collection;
+		}
+
+		/**
+		 * Returns the ordering of the elements of a SortedSet
+		 *
+		 * @param <T> The type of element
+		 * @return An ordering
+		 */
+		@NotNull
+		static <T> Ordering<SortedSet<T>, T> elements() {
+			return new Ordering<SortedSet<T>, T>(SortedSet.class, "element", "sorted set") {
+				@NotNull
+				@Override
+				Comparator<? super T> comparator(@NotNull SortedSet<T> subject) {
+					return subject.comparator();
+				}
+
+				@Override
+				T first(@NotNull SortedSet<T> subject) {
+					return subject.head();
+				}
+
+				@Override
+				T last(@NotNull SortedSet<T> subject) {
+					return subject.last();
+				}
+
+				@Override
+				boolean contains(@NotNull SortedSet<T> subject, @NotNull T value) {
+					return subject.contains(value);
+				}
+
+				@NotNull
+				@Override
+				Iterator<T> iterator(@NotNull SortedSet<T> subject) {
+					return subject.iterator();
+				}
+			};
+		}
+
+		/**
+		 * Returns the ordering of the keys of a SortedMap
+		 *
+		 * @param <K> The type of key
+		 * @return An ordering
+		 */
+		@NotNull
+		static <K> Ordering<SortedMap<K, ?>, K> keys() {
+			return new Ordering<SortedMap<K, ?>, K>(SortedMap.class, "key", "sorted map") {
+				@NotNull
+				@Override
+				Comparator<? super K> comparator(@NotNull SortedMap<K, ?> subject) {
+					return subject.comparator();
+				}
+
+				@Override
+				K first(@NotNull SortedMap<K, ?> subject) {
+					return subject.head()._1;
+				}
+
+				@Override
+				K last(@NotNull SortedMap<K, ?> subject) {
+					return subject.last()._1;
+				}
+
+				@Override
+				boolean contains(@NotNull SortedMap<K, ?> subject, @NotNull K value) {
+					return subject.containsKey(value);
+				}
+
+				@NotNull
+				@Override
+				Iterator<K> iterator(@NotNull SortedMap<K, ?> subject) {
+					return subject.iterator().map(entry -> entry._1);
+				}
+			};
+		}
+
+		@NotNull
+		abstract Comparator<? super T> comparator(@NotNull S subject);
+
+		abstract T first(@NotNull S subject);
+
+		abstract T last(@NotNull S subject);
+
+		abstract boolean contains(@NotNull S subject, @NotNull T value);
+
+		@NotNull
+		abstract Iterator<T> iterator(@NotNull S subject);
+	}
+
+	/**
+	 * Matches a sorted collection whose first or last value is equal to the given value. Values are compared using
+	 * the global {@link Equivalence}
+	 *
+	 * @param <S> The type of collection
+	 * @param <T> The type of value that is ordered
+	 */
+	static final class EdgeIs<S extends Traversable<?>, T> extends SortedMatcher<S, T> {
+		private final T expected;
+
+		private final boolean last;
+
+		private volatile CachedDescription cachedDescription;
+
+		EdgeIs(@NotNull Ordering<S, T> ordering, @NotNull T expected, boolean last) {
+			super(ordering);
+			this.expected = expected;
+			this.last = last;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull S subject, @NotNull Description mismatchDescription) {
+			if (subject.isEmpty()) {
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						expected, subject);
+				mismatchDescription.appendText("is an empty ").appendText(subject.stringPrefix());
+				return false;
+			}
+
+			T actual = last ? ordering.last(subject) : ordering.first(subject);
+
+			if (Equivalence.test(null, expected, actual)) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, expected,
+					actual);
+			TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" whose ")
+					.appendText(edge()).appendText(" is ").appendDescriptionOf(BoundedValue.of(actual));
+
+			return false;
+		}
+
+		@NotNull
+		private String edge() {
+			return (last ? "last " : "first ") + ordering.noun;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a ").appendText(ordering.collection).appendText(" whose ").appendText(edge())
+					.appendText(" is ").appendDescriptionOf(BoundedValue.of(expected));
+		}
+	}
+
+	/**
+	 * Matches a sorted collection of which every value lies within a half-open range. Only the first and last value
+	 * are compared to the bounds
+	 *
+	 * @param <S> The type of collection
+	 * @param <T> The type of value that is ordered
+	 */
+	static final class WithinRange<S extends Traversable<?>, T> extends SortedMatcher<S, T> {
+		private final T from;
+
+		private final T to;
+
+		private volatile CachedDescription cachedDescription;
+
+		WithinRange(@NotNull Ordering<S, T> ordering, @NotNull T from, @NotNull T to) {
+			super(ordering);
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull S subject, @NotNull Description mismatchDescription) {
+			if (subject.isEmpty()) {
+				return true;
+			}
+
+			Comparator<? super T> comparator = ordering.comparator(subject);
+			T first = ordering.first(subject);
+
+			if (comparator.compare(first, from) < 0) {
+				describeOutside(subject, first, mismatchDescription);
+				return false;
+			}
+
+			T last = ordering.last(subject);
+
+			if (comparator.compare(last, to) >= 0) {
+				describeOutside(subject, last, mismatchDescription);
+				return false;
+			}
+
+			return true;
+		}
+
+		private void describeOutside(
+				@NotNull S subject, @NotNull T actual, @NotNull Description mismatchDescription) {
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, this,
+					actual);
+			TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" with ")
+					.appendText(ordering.noun).appendText(" ").appendDescriptionOf(BoundedValue.of(actual))
+					.appendText(" outside ");
+			describeRange(from, to, mismatchDescription);
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a ").appendText(ordering.collection).appendText(" with all ")
+					.appendText(ordering.noun).appendText("s in ");
+			describeRange(from, to, description);
+		}
+	}
+
+	/**
+	 * Matches a sorted collection without any value in a half-open range. The first and last value, and the lower
+	 * bound itself, are checked first; only if those do not decide the match are the values before the range visited.
+	 * Since Vavr 0.10 has no floor or ceiling lookup, that scan takes linear time in the worst case, when the range
+	 * lies just below the last value
+	 *
+	 * @param <S> The type of collection
+	 * @param <T> The type of value that is ordered
+	 */
+	static final class NoneBetween<S extends Traversable<?>, T> extends SortedMatcher<S, T> {
+		private final T from;
+
+		private final T to;
+
+		private final MatchMemo<S, T> found = new MatchMemo<>();
+
+		private volatile CachedDescription cachedDescription;
+
+		NoneBetween(@NotNull Ordering<S, T> ordering, @NotNull T from, @NotNull T to) {
+			super(ordering);
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull S subject, @NotNull Description mismatchDescription) {
+			T known = found.recall(subject, mismatchDescription);
+
+			if (known != null) {
+				describeInside(subject, known, mismatchDescription);
+				return false;
+			}
+
+			if (subject.isEmpty()) {
+				return true;
+			}
+
+			Comparator<? super T> comparator = ordering.comparator(subject);
+
+			if (comparator.compare(from, to) >= 0) {
+				return true;
+			}
+
+			T first = ordering.first(subject);
+
+			if (comparator.compare(first, to) >= 0 || comparator.compare(ordering.last(subject), from) < 0) {
+				return true;
+			}
+
+			T inside = null;
+
+			if (comparator.compare(first, from) >= 0) {
+				inside = first;
+			} else if (ordering.contains(subject, from)) {
+				inside = from;
+			} else {
+				Iterator<T> iterator = ordering.iterator(subject);
+
+				while (iterator.hasNext()) {
+					T actual = iterator.next();
+
+					if (comparator.compare(actual, from) >= 0) {
+						if (comparator.compare(actual, to) < 0) {
+							inside = actual;
+						}
+						break;
+					}
+				}
+			}
+
+			if (inside == null) {
+				found.forget();
+				return true;
+			}
+
+			found.rememberFailure(subject, inside, mismatchDescription);
+			describeInside(subject, inside, mismatchDescription);
+
+			return false;
+		}
+
+		private void describeInside(
+				@NotNull S subject, @NotNull T actual, @NotNull Description mismatchDescription) {
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, this,
+					actual);
+			TraversableMatcher.describeCollection(subject, mismatchDescription).appendText(" with ")
+					.appendText(ordering.noun).appendText(" ").appendDescriptionOf(BoundedValue.of(actual))
+					.appendText(" in ");
+			describeRange(from, to, mismatchDescription);
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a ").appendText(ordering.collection).appendText(" without ")
+					.appendText(ordering.noun).appendText("s in ");
+			describeRange(from, to, description);
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.Stream;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for matchers that look at a bounded prefix of Vavr's Stream. A Stream evaluates its next element when
+ * its tail is requested, so iterating over it evaluates one element more than was visited. These matchers walk the
+ * Stream with {@code head} and {@code tail} instead, and only request a tail when another element is needed: a matcher
+ * with a bound of {@code n} never evaluates more than {@code n} elements, also while describing a mismatch.
+ *
+ * @param <S> The type of Stream matched
+ */
+abstract class StreamMatcher<S extends Stream<?>> extends TypeSafeDiagnosingMatcher<S> {
+	StreamMatcher() {
+		super(Stream.class);
+	}
+
+	/**
+	 * Checks that a bound is not negative
+	 *
+	 * @param count The bound
+	 * @return The bound
+	 * @throws IllegalArgumentException If the bound is negative
+	 */
+	static int checkCount(int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("count must not be negative, but is " + count);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Describes a Stream that ended before the given number of elements
+	 *
+	 * @param expected            The matcher that expected more elements
+	 * @param subject             The Stream that was matched
+	 * @param length              The number of elements in the Stream
+	 * @param mismatchDescription The description to append to
+	 */
+	static void describeTooShort(
+			@NotNull Matcher<?> expected, @NotNull Stream<?> subject, int length,
+			@NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, "Stream", MatchResult.Kind.VALUE_MISMATCH, expected, subject);
+		mismatchDescription.appendText("is a Stream with only ").appendText(String.valueOf(length))
+				.appendText(length == 1 ? " element" : " elements");
+	}
+
+	/**
+	 * Describes an element of a Stream that does not match
+	 *
+	 * @param index               The index of the element
+	 * @param expected            The expected value, or the matcher it should satisfy
+	 * @param actual              The element
+	 * @param mismatchDescription The description to append to
+	 */
+	static void describeElement(
+			int index, @NotNull Object expected, @Nullable Object actual, @NotNull Description mismatchDescription) {
+		MatchResult.report(mismatchDescription, "Stream[" + index + "]", MatchResult.Kind.VALUE_MISMATCH,
+				expected, actual);
+		mismatchDescription.appendText("is a Stream with element ").appendDescriptionOf(BoundedValue.of(actual))
+				.appendText(" at index ").appendText(String.valueOf(index));
+	}
+
+	/**
+	 * Walks over the elements of a Stream, requesting the tail of an element only when the next element is asked for
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class Cursor<T> {
+		private Stream<? extends T> rest;
+
+		private boolean advance;
+
+		private int pulled;
+
+		Cursor(@NotNull Stream<? extends T> stream) {
+			this.rest = stream;
+		}
+
+		/**
+		 * Determines whether the Stream has another element, evaluating it if needed
+		 *
+		 * @return {@code true} if there is another element
+		 */
+		boolean hasNext() {
+			if (advance) {
+				rest = rest.tail();
+				advance = false;
+			}
+
+			return !rest.isEmpty();
+		}
+
+		/**
+		 * Returns the next element. Must be preceded by a call to {@link #hasNext()}
+		 *
+		 * @return The next element
+		 */
+		T next() {
+			advance = true;
+			pulled++;
+
+			return rest.head();
+		}
+
+		/**
+		 * Returns the number of elements returned so far
+		 *
+		 * @return The number of elements
+		 */
+		int pulled() {
+			return pulled;
+		}
+	}
+
+	/**
+	 * Matches a Stream that starts with the given elements, in the given order
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class StartsWith<T> extends StreamMatcher<Stream<? extends T>> {
+		private final T[] prefix;
+
+		private final MatchMemo<Stream<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		private volatile CachedDescription cachedDescription;
+
+		StartsWith(@NotNull T[] prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Stream<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer known = firstMismatch.recall(subject, mismatchDescription);
+			Cursor<T> cursor = new Cursor<>(subject);
+
+			for (int index = 0; index < prefix.length; index++) {
+				if (!cursor.hasNext()) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeTooShort(this, subject, index, mismatchDescription);
+					return false;
+				}
+
+				T actual = cursor.next();
+				boolean mismatch = known != null ? known == index : !Equivalence.test(null, prefix[index], actual);
+
+				if (mismatch) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeElement(index, prefix[index], actual, mismatchDescription);
+					mismatchDescription.appendText(", where ")
+							.appendDescriptionOf(BoundedValue.of(prefix[index])).appendText(" was expected");
+					return false;
+				}
+			}
+
+			firstMismatch.forget();
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a Stream starting with ").appendDescriptionOf(BoundedValue.of(prefix));
+		}
+	}
+
+	/**
+	 * Matches a Stream of which the first elements, up to the given count, all satisfy the given matcher. The Stream
+	 * must have at least that many elements
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class FirstElementsMatching<T> extends StreamMatcher<Stream<? extends T>> {
+		private final int count;
+
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<Stream<? extends T>, Integer> firstMismatch = new MatchMemo<>();
+
+		FirstElementsMatching(int count, @NotNull Matcher<? super T> matcher) {
+			this.count = checkCount(count);
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Stream<? extends T> subject, @NotNull Description mismatchDescription) {
+			Integer known = firstMismatch.recall(subject, mismatchDescription);
+			Cursor<T> cursor = new Cursor<>(subject);
+
+			for (int index = 0; index < count; index++) {
+				if (!cursor.hasNext()) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeTooShort(this, subject, index, mismatchDescription);
+					return false;
+				}
+
+				T actual = cursor.next();
+				boolean mismatch = known != null ? known == index : !matcher.matches(actual);
+
+				if (mismatch) {
+					firstMismatch.rememberFailure(subject, index, mismatchDescription);
+					describeElement(index, matcher, actual, mismatchDescription);
+					mismatchDescription.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matcher, actual, mismatchDescription);
+					return false;
+				}
+			}
+
+			firstMismatch.forget();
+
+			return true;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Stream of which the first ").appendText(String.valueOf(count))
+					.appendText(" elements are ").appendDescriptionOf(matcher);
+		}
+	}
+
+	/**
+	 * Matches a Stream of which at least one of the first elements, up to the given count, satisfies the given
+	 * matcher. The search stops at the first element that matches
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class ElementWithin<T> extends StreamMatcher<Stream<? extends T>> {
+		private final int count;
+
+		private final Matcher<? super T> matcher;
+
+		ElementWithin(int count, @NotNull Matcher<? super T> matcher) {
+			this.count = checkCount(count);
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Stream<? extends T> subject, @NotNull Description mismatchDescription) {
+			Cursor<T> cursor = new Cursor<>(subject);
+			List<T> visited = MatchMemo.isMatchOnly(mismatchDescription) ? null : new ArrayList<>();
+
+			while (cursor.pulled() < count && cursor.hasNext()) {
+				T actual = cursor.next();
+
+				if (matcher.matches(actual)) {
+					return true;
+				}
+
+				if (visited != null) {
+					visited.add(actual);
+				}
+			}
+
+			MatchResult.report(mismatchDescription, "Stream", MatchResult.Kind.VALUE_MISMATCH, this, subject);
+			mismatchDescription.appendText("is a Stream without an element matching ").appendDescriptionOf(matcher)
+					.appendText(" among its first ").appendText(String.valueOf(cursor.pulled()))
+					.appendText(cursor.pulled() == 1 ? " element " : " elements ")
+					.appendDescriptionOf(BoundedValue.of(visited));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Stream with an element matching ").appendDescriptionOf(matcher)
+					.appendText(" among its first ").appendText(String.valueOf(count)).appendText(" elements");
+		}
+	}
+}
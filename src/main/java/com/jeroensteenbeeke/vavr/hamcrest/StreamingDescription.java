@@ -0,0 +1,160 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.CharBuffer;
+
+/**
+ * A Hamcrest Description that writes to an {@link Appendable}, such as a {@link Writer} or a {@link StringBuilder},
+ * through a fixed-size buffer. Unlike {@link org.hamcrest.StringDescription}, which builds the entire description
+ * in memory first, at most one buffer of text is held at any time, and the buffer is reused for every description
+ * written. To write to a {@code java.nio} channel, wrap it using {@link java.nio.channels.Channels#newWriter}.
+ * <p>
+ * Text only reaches the target when the buffer is full, or when {@link #flush()} is called. The
+ * {@link #describe(SelfDescribing)} and {@link #describeMismatch(Matcher, Object)} methods flush automatically.
+ * Failures to write are rethrown as {@link UncheckedIOException}. Instances are not thread-safe.
+ * <p>
+ * The buffer is allocated when the description is created, so code that writes many descriptions to the same
+ * target should create one StreamingDescription and keep it, rather than creating one per description.
+ */
+public final class StreamingDescription extends BaseDescription implements Flushable {
+	/**
+	 * The size of the buffer used when none is specified
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private final Appendable out;
+
+	private final char[] buffer;
+
+	private final CharBuffer bufferView;
+
+	private int length;
+
+	/**
+	 * Creates a new StreamingDescription with a buffer of the default size
+	 *
+	 * @param out The target to write to
+	 */
+	public StreamingDescription(@NotNull Appendable out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new StreamingDescription
+	 *
+	 * @param out        The target to write to
+	 * @param bufferSize The number of characters to buffer before writing to the target, must be positive
+	 */
+	public StreamingDescription(@NotNull Appendable out, int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize must be positive, but is " + bufferSize);
+		}
+
+		this.out = out;
+		this.buffer = new char[bufferSize];
+		this.bufferView = CharBuffer.wrap(buffer);
+	}
+
+	/**
+	 * Writes the description of the given matcher or value, and flushes it to the target
+	 *
+	 * @param selfDescribing The object to describe
+	 * @return This description
+	 */
+	@NotNull
+	public StreamingDescription describe(@NotNull SelfDescribing selfDescribing) {
+		selfDescribing.describeTo(this);
+		flush();
+		return this;
+	}
+
+	/**
+	 * Writes the reason why the given item does not satisfy the given matcher, and flushes it to the target
+	 *
+	 * @param matcher The matcher the item was tested against
+	 * @param item    The item that did not match
+	 * @return This description
+	 */
+	@NotNull
+	public StreamingDescription describeMismatch(@NotNull Matcher<?> matcher, @Nullable Object item) {
+		matcher.describeMismatch(item, this);
+		flush();
+		return this;
+	}
+
+	@Override
+	protected void append(char c) {
+		if (length == buffer.length) {
+			flushBuffer();
+		}
+
+		buffer[length++] = c;
+	}
+
+	@Override
+	protected void append(String str) {
+		int offset = 0;
+		int remaining = str.length();
+
+		while (remaining > 0) {
+			if (length == buffer.length) {
+				flushBuffer();
+			}
+
+			int chunk = Math.min(remaining, buffer.length - length);
+			str.getChars(offset, offset + chunk, buffer, length);
+			length += chunk;
+			offset += chunk;
+			remaining -= chunk;
+		}
+	}
+
+	/**
+	 * Writes all buffered text to the target. If the target is {@link Flushable}, it is flushed as well
+	 */
+	@Override
+	public void flush() {
+		flushBuffer();
+
+		if (out instanceof Flushable) {
+			try {
+				((Flushable) out).flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private void flushBuffer() {
+		if (length == 0) {
+			return;
+		}
+
+		try {
+			if (out instanceof Writer) {
+				((Writer) out).write(buffer, 0, length);
+			} else if (out instanceof StringBuilder) {
+				((StringBuilder) out).append(buffer, 0, length);
+			} else {
+				// Buffer's own methods, since CharBuffer only overrides them from Java 9 onwards
+				((Buffer) bufferView).clear();
+				((Buffer) bufferView).limit(length);
+				out.append(bufferView);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		length = 0;
+	}
+}
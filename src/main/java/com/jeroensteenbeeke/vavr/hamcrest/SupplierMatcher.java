@@ -0,0 +1,68 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Traversable;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Base class for matchers of a Supplier, which create the value to match on demand
+ *
+ * @param <S> The type of Supplier matched
+ */
+abstract class SupplierMatcher<S extends Supplier<?>> extends TypeSafeDiagnosingMatcher<S> {
+	SupplierMatcher() {
+		super(Supplier.class);
+	}
+
+	/**
+	 * Matches a Supplier of a collection by applying the given matcher to an Iterator over the supplied collection.
+	 * Only the Iterator is referenced, never the collection itself, so the elements of a supplied Stream that have
+	 * been visited can be garbage collected while the Iterator is consumed
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class Iterated<T> extends SupplierMatcher<Supplier<? extends Traversable<? extends T>>> {
+		private final Matcher<? super Iterator<? extends T>> matcher;
+
+		private final MatchMemo<Supplier<? extends Traversable<? extends T>>, Iterator<? extends T>> iterators =
+				new MatchMemo<>();
+
+		Iterated(@NotNull Matcher<? super Iterator<? extends T>> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Supplier<? extends Traversable<? extends T>> subject,
+				@NotNull Description mismatchDescription) {
+			Iterator<? extends T> iterator = iterators.recall(subject, mismatchDescription);
+
+			if (iterator == null) {
+				iterator = subject.get().iterator();
+
+				if (matcher.matches(iterator)) {
+					iterators.forget();
+					return true;
+				}
+
+				iterators.rememberFailure(subject, iterator, mismatchDescription);
+			}
+
+			MatchResult.report(mismatchDescription, "Supplier", MatchResult.Kind.VALUE_MISMATCH, matcher, iterator);
+			mismatchDescription.appendText("is a Supplier, with elements not matching because ");
+			MatchMemo.describeInnerMismatch(matcher, iterator, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Supplier, with elements matching ").appendDescriptionOf(matcher);
+		}
+	}
+}
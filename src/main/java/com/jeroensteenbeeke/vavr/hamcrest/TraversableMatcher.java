@@ -0,0 +1,358 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Set;
+import io.vavr.collection.Traversable;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class for matchers of any of Vavr's collections
+ *
+ * @param <S> The type of collection matched
+ */
+abstract class TraversableMatcher<S extends Traversable<?>> extends TypeSafeDiagnosingMatcher<S> {
+	TraversableMatcher() {
+		super(Traversable.class);
+	}
+
+	/**
+	 * Starts a mismatch description with the kind of collection that was matched, such as "is a List"
+	 *
+	 * @param subject             The collection that was matched
+	 * @param mismatchDescription The description to append to
+	 * @return The description
+	 */
+	@NotNull
+	static Description describeCollection(@NotNull Traversable<?> subject, @NotNull Description mismatchDescription) {
+		String prefix = subject.stringPrefix();
+
+		return mismatchDescription.appendText("AEIOU".indexOf(prefix.charAt(0)) >= 0 ? "is an " : "is a ")
+				.appendText(prefix);
+	}
+
+	/**
+	 * Matches a collection that contains exactly the given elements, in any order. Elements are compared using their
+	 * {@code equals} and {@code hashCode} methods, not the global {@link Equivalence}: a Set is checked by looking up
+	 * every expected element with {@code contains}, and any other collection is checked in a single pass against an
+	 * index of the expected elements that is built once, when the matcher is created
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class ContainsExactlyInAnyOrder<T> extends TraversableMatcher<Traversable<? extends T>> {
+		private final T[] elements;
+
+		private final Map<T, Integer> slots;
+
+		private final int[] counts;
+
+		private volatile CachedDescription cachedDescription;
+
+		ContainsExactlyInAnyOrder(@NotNull T[] elements) {
+			this.elements = elements;
+			this.slots = new HashMap<>();
+
+			int[] occurrences = new int[elements.length];
+			for (T element : elements) {
+				Integer slot = slots.get(element);
+				if (slot == null) {
+					slot = slots.size();
+					slots.put(element, slot);
+				}
+				occurrences[slot]++;
+			}
+			this.counts = Arrays.copyOf(occurrences, slots.size());
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Traversable<? extends T> subject, @NotNull Description mismatchDescription) {
+			if (subject instanceof Set) {
+				return matchesSet((Set<? extends T>) subject, mismatchDescription);
+			}
+
+			int[] remaining = counts.clone();
+
+			for (T actual : subject) {
+				Integer slot = slots.get(actual);
+
+				if (slot == null || remaining[slot] == 0) {
+					MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+							this, actual);
+					describeCollection(subject, mismatchDescription)
+							.appendText(" with unexpected element ").appendDescriptionOf(BoundedValue.of(actual));
+					return false;
+				}
+
+				remaining[slot]--;
+			}
+
+			for (T element : elements) {
+				if (remaining[slots.get(element)] > 0) {
+					describeMissing(subject, element, mismatchDescription);
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean matchesSet(@NotNull Set<? extends T> subject, @NotNull Description mismatchDescription) {
+			if (subject.size() != elements.length || slots.size() != elements.length) {
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						this, subject);
+				describeCollection(subject, mismatchDescription).appendText(" of size ")
+						.appendText(String.valueOf(subject.size()));
+				return false;
+			}
+
+			@SuppressWarnings("unchecked")
+			Set<T> set = (Set<T>) subject;
+
+			for (T element : elements) {
+				if (!set.contains(element)) {
+					describeMissing(subject, element, mismatchDescription);
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private void describeMissing(
+				@NotNull Traversable<? extends T> subject, @NotNull T element,
+				@NotNull Description mismatchDescription) {
+			MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+					element, subject);
+			describeCollection(subject, mismatchDescription).appendText(" without element ")
+					.appendDescriptionOf(BoundedValue.of(element));
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a collection containing ").appendDescriptionOf(BoundedValue.of(elements))
+					.appendText(" in any order");
+		}
+	}
+
+	/**
+	 * Matches a collection whose elements satisfy the given matchers, in any order, with one element for every
+	 * matcher. Since an element may satisfy several matchers, pairing it with the first unused one could leave a later
+	 * element without a matcher even though another pairing exists. Every element is therefore paired using augmenting
+	 * paths: if all matchers it satisfies are taken, the elements holding them are moved to other matchers where
+	 * possible. The collection is walked at most one element past the number of matchers, and each element is tested
+	 * against each matcher at most once. Outcomes are only stored for the pairs that were tested, so memory grows with
+	 * the number of comparisons made rather than with the number of matchers squared. The outcome of a failed match is
+	 * remembered, so describing the mismatch does not pair the elements again
+	 *
+	 * @param <T> The type of element
+	 */
+	static final class ContainsMatchingInAnyOrder<T> extends TraversableMatcher<Traversable<? extends T>> {
+		private final Matcher<? super T>[] matchers;
+
+		private final MatchMemo<Traversable<? extends T>, Tuple2<Integer, T>> firstMismatch = new MatchMemo<>();
+
+		ContainsMatchingInAnyOrder(@NotNull Matcher<? super T>[] matchers) {
+			this.matchers = matchers;
+		}
+
+		@Override
+		protected boolean matchesSafely(
+				@NotNull Traversable<? extends T> subject, @NotNull Description mismatchDescription) {
+			Tuple2<Integer, T> mismatch = firstMismatch.recall(subject, mismatchDescription);
+
+			if (mismatch == null) {
+				mismatch = findMismatch(subject);
+
+				if (mismatch == null) {
+					firstMismatch.forget();
+					return true;
+				}
+
+				firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+			}
+
+			if (mismatch._1 < 0) {
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH, this,
+						mismatch._2);
+				describeCollection(subject, mismatchDescription)
+						.appendText(" with element ").appendDescriptionOf(BoundedValue.of(mismatch._2))
+						.appendText(" not matching any of the remaining matchers");
+			} else {
+				Matcher<? super T> unused = matchers[mismatch._1];
+				MatchResult.report(mismatchDescription, subject.stringPrefix(), MatchResult.Kind.VALUE_MISMATCH,
+						unused, subject);
+				describeCollection(subject, mismatchDescription)
+						.appendText(" without an element matching ").appendDescriptionOf(unused);
+			}
+
+			return false;
+		}
+
+		/**
+		 * Pairs the elements of the given collection with the matchers
+		 *
+		 * @param subject The collection to pair
+		 * @return {@code null} if every element and matcher is paired, a Tuple of -1 and the first element that
+		 * cannot be paired, or a Tuple of the index of the first matcher left without an element
+		 */
+		@Nullable
+		private Tuple2<Integer, T> findMismatch(@NotNull Traversable<? extends T> subject) {
+			Pairing<T> pairing = new Pairing<>(matchers);
+
+			for (T actual : subject) {
+				if (!pairing.add(actual)) {
+					return Tuple.of(-1, actual);
+				}
+			}
+
+			int unused = pairing.firstUnusedMatcher();
+
+			return unused < 0 ? null : Tuple.of(unused, null);
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendList("is a collection containing [", ", ", "] in any order", Arrays.asList(matchers));
+		}
+	}
+
+	/**
+	 * The pairing of elements and matchers built while matching a single collection. Each added element is paired
+	 * by searching for an augmenting path: a chain of matchers, each held by an element that can move to the next
+	 * one, ending in an unused matcher. The search uses an explicit stack, so a long chain does not exhaust the call
+	 * stack
+	 *
+	 * @param <T> The type of element
+	 */
+	private static final class Pairing<T> {
+		private final Matcher<? super T>[] matchers;
+
+		private final Object[] elements;
+
+		private final BitSet[] tested;
+
+		private final BitSet[] satisfied;
+
+		private final int[] pairedElements;
+
+		private final int[] visits;
+
+		private final int[] stackElements;
+
+		private final int[] stackMatchers;
+
+		private int count;
+
+		private Pairing(@NotNull Matcher<? super T>[] matchers) {
+			this.matchers = matchers;
+			this.elements = new Object[matchers.length];
+			this.tested = new BitSet[matchers.length];
+			this.satisfied = new BitSet[matchers.length];
+			this.pairedElements = new int[matchers.length];
+			this.visits = new int[matchers.length];
+			this.stackElements = new int[matchers.length];
+			this.stackMatchers = new int[matchers.length];
+			Arrays.fill(pairedElements, -1);
+		}
+
+		/**
+		 * Pairs the given element with a matcher it satisfies, moving elements that were paired earlier to other
+		 * matchers if needed
+		 *
+		 * @param actual The element to pair
+		 * @return {@code true} if the element was paired, {@code false} if no pairing exists
+		 */
+		private boolean add(@Nullable T actual) {
+			if (count == matchers.length) {
+				return false;
+			}
+
+			int element = count++;
+			elements[element] = actual;
+			tested[element] = new BitSet();
+			satisfied[element] = new BitSet();
+
+			// Matchers visited while pairing this element are marked with its number, counted from 1
+			int visit = element + 1;
+			int depth = 0;
+			stackElements[0] = element;
+			stackMatchers[0] = 0;
+
+			while (depth >= 0) {
+				int current = stackElements[depth];
+				int next = -1;
+
+				for (int i = stackMatchers[depth]; i < matchers.length && next < 0; i++) {
+					if (visits[i] != visit && satisfies(current, i)) {
+						next = i;
+					}
+				}
+
+				if (next < 0) {
+					depth--;
+					continue;
+				}
+
+				visits[next] = visit;
+				stackMatchers[depth] = next;
+
+				if (pairedElements[next] < 0) {
+					for (int d = depth; d >= 0; d--) {
+						pairedElements[stackMatchers[d]] = stackElements[d];
+					}
+					return true;
+				}
+
+				// Try to move the element holding the matcher; if that fails, this level resumes after the matcher
+				depth++;
+				stackElements[depth] = pairedElements[next];
+				stackMatchers[depth] = 0;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Returns the first matcher that is not paired with an element
+		 *
+		 * @return The index of the matcher, or -1 if every matcher is paired
+		 */
+		private int firstUnusedMatcher() {
+			for (int i = 0; i < pairedElements.length; i++) {
+				if (pairedElements[i] < 0) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+		@SuppressWarnings("unchecked")
+		private boolean satisfies(int element, int matcher) {
+			if (!tested[element].get(matcher)) {
+				tested[element].set(matcher);
+
+				if (matchers[matcher].matches((T) elements[element])) {
+					satisfied[element].set(matcher);
+				}
+			}
+
+			return satisfied[element].get(matcher);
+		}
+	}
+
+}
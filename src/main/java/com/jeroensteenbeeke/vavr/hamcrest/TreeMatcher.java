@@ -0,0 +1,262 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Tree;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+
+/**
+ * Base class for matchers of Vavr's Tree. The nodes are visited in level order, using a queue instead of recursion,
+ * so a degenerate tree that is a million levels deep does not overflow the stack. The queue holds at most the rest
+ * of the current level and the children queued for the next one, so at most two levels of nodes at a time.
+ * Descriptions, and the actual values reported to {@link MatchResult}, are single nodes or depths, never the Tree
+ * itself.
+ *
+ * @param <S> The type of Tree matched
+ */
+abstract class TreeMatcher<S extends Tree<?>> extends TypeSafeDiagnosingMatcher<S> {
+	TreeMatcher() {
+		super(Tree.class);
+	}
+
+	/**
+	 * Visits the nodes of a Tree in level order, keeping track of the depth of each node. The root has depth 0
+	 *
+	 * @param <T> The type of value
+	 */
+	static final class LevelOrder<T> {
+		private final ArrayDeque<Tree<? extends T>> queue = new ArrayDeque<>();
+
+		private int depth = -1;
+
+		private int remainingInLevel;
+
+		private int nextLevel;
+
+		LevelOrder(@NotNull Tree<? extends T> tree) {
+			if (!tree.isEmpty()) {
+				queue.add(tree);
+				nextLevel = 1;
+			}
+		}
+
+		/**
+		 * Determines whether there are nodes left to visit
+		 *
+		 * @return {@code true} if there is another node
+		 */
+		boolean hasNext() {
+			return !queue.isEmpty();
+		}
+
+		/**
+		 * Returns the next node, and queues its children
+		 *
+		 * @return The next node
+		 */
+		@NotNull
+		Tree<? extends T> next() {
+			if (remainingInLevel == 0) {
+				depth++;
+				remainingInLevel = nextLevel;
+				nextLevel = 0;
+			}
+
+			Tree<? extends T> node = queue.poll();
+			remainingInLevel--;
+
+			for (Tree<? extends T> child : node.getChildren()) {
+				queue.add(child);
+				nextLevel++;
+			}
+
+			return node;
+		}
+
+		/**
+		 * Returns the depth of the node last returned by {@link #next()}
+		 *
+		 * @return The depth
+		 */
+		int depth() {
+			return depth;
+		}
+	}
+
+	/**
+	 * Matches a Tree of which the value of every node satisfies the given matcher
+	 *
+	 * @param <T> The type of value
+	 */
+	static final class EveryNode<T> extends TreeMatcher<Tree<? extends T>> {
+		private final Matcher<? super T> matcher;
+
+		private final MatchMemo<Tree<? extends T>, Tuple2<Integer, T>> firstMismatch = new MatchMemo<>();
+
+		EveryNode(@NotNull Matcher<? super T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Tree<? extends T> subject, @NotNull Description mismatchDescription) {
+			Tuple2<Integer, T> mismatch = firstMismatch.recall(subject, mismatchDescription);
+			LevelOrder<T> nodes = new LevelOrder<>(subject);
+
+			while (mismatch == null && nodes.hasNext()) {
+				T value = nodes.next().getValue();
+
+				if (!matcher.matches(value)) {
+					mismatch = Tuple.of(nodes.depth(), value);
+					firstMismatch.rememberFailure(subject, mismatch, mismatchDescription);
+				}
+			}
+
+			if (mismatch == null) {
+				firstMismatch.forget();
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Tree", MatchResult.Kind.VALUE_MISMATCH, matcher, mismatch._2);
+			mismatchDescription.appendText("is a Tree with node ").appendDescriptionOf(BoundedValue.of(mismatch._2))
+					.appendText(" at depth ").appendText(String.valueOf(mismatch._1))
+					.appendText(" not matching because ");
+			MatchMemo.describeInnerMismatch(matcher, mismatch._2, mismatchDescription);
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Tree of which every node is ").appendDescriptionOf(matcher);
+		}
+	}
+
+	/**
+	 * Matches a Tree with a node whose value satisfies the given matcher, at the given depth or above it. Nodes
+	 * below that depth are never visited
+	 *
+	 * @param <T> The type of value
+	 */
+	static final class NodeWithinDepth<T> extends TreeMatcher<Tree<? extends T>> {
+		private final int depth;
+
+		private final Matcher<? super T> matcher;
+
+		NodeWithinDepth(int depth, @NotNull Matcher<? super T> matcher) {
+			if (depth < 0) {
+				throw new IllegalArgumentException("depth must not be negative, but is " + depth);
+			}
+
+			this.depth = depth;
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Tree<? extends T> subject, @NotNull Description mismatchDescription) {
+			LevelOrder<T> nodes = new LevelOrder<>(subject);
+			int searched = -1;
+
+			while (nodes.hasNext()) {
+				T value = nodes.next().getValue();
+
+				if (nodes.depth() > depth) {
+					break;
+				}
+
+				if (matcher.matches(value)) {
+					return true;
+				}
+
+				searched = nodes.depth();
+			}
+
+			MatchResult.report(mismatchDescription, "Tree", MatchResult.Kind.VALUE_MISMATCH, this, searched);
+			mismatchDescription.appendText("is a Tree without a node matching ").appendDescriptionOf(matcher)
+					.appendText(" at depth ").appendText(String.valueOf(depth)).appendText(" or less");
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Tree with a node matching ").appendDescriptionOf(matcher)
+					.appendText(" at depth ").appendText(String.valueOf(depth)).appendText(" or less");
+		}
+	}
+
+	/**
+	 * Matches a Tree with the given height, which is the number of levels: an empty Tree has height 0, and a Tree
+	 * that only has a root has height 1. Levels below the expected height are never visited
+	 */
+	static final class HasHeight extends TreeMatcher<Tree<?>> {
+		private final int height;
+
+		HasHeight(int height) {
+			this.height = height;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Tree<?> subject, @NotNull Description mismatchDescription) {
+			LevelOrder<?> nodes = new LevelOrder<>(subject);
+			int actual = 0;
+
+			while (actual <= height && nodes.hasNext()) {
+				nodes.next();
+				actual = nodes.depth() + 1;
+			}
+
+			if (actual == height) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Tree", MatchResult.Kind.VALUE_MISMATCH, height, actual);
+			if (actual > height) {
+				mismatchDescription.appendText("is a Tree of height greater than ").appendText(String.valueOf(height));
+			} else {
+				mismatchDescription.appendText("is a Tree of height ").appendText(String.valueOf(actual));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Tree of height ").appendText(String.valueOf(height));
+		}
+	}
+
+	/**
+	 * Matches a Tree with the given number of nodes. Vavr keeps the size of every node, so no nodes are visited
+	 */
+	static final class HasSize extends TreeMatcher<Tree<?>> {
+		private final int size;
+
+		HasSize(int size) {
+			this.size = size;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Tree<?> subject, @NotNull Description mismatchDescription) {
+			int actual = subject.length();
+
+			if (actual == size) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Tree", MatchResult.Kind.VALUE_MISMATCH, size, actual);
+			mismatchDescription.appendText("is a Tree of size ").appendText(String.valueOf(actual));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a Tree of size ").appendText(String.valueOf(size));
+		}
+	}
+}
@@ -0,0 +1,407 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.control.Try;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Base class for matchers of Vavr's Try. Passes the expected type to Hamcrest explicitly, so constructing
+ * a matcher does not require a reflective lookup of the {@code matchesSafely} signature
+ *
+ * @param <X> The type of Try matched
+ */
+abstract class TryMatcher<X extends Try<?>> extends TypeSafeDiagnosingMatcher<X> {
+	TryMatcher() {
+		super(Try.class);
+	}
+
+	/**
+	 * Matches a Try that is a success
+	 */
+	static final class Success extends TryMatcher<Try<?>> {
+		@Override
+		protected boolean matchesSafely(@NotNull Try<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isSuccess()) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT, this, subject);
+			mismatchDescription.appendText("is a failure, with exception of type ")
+					.appendDescriptionOf(BoundedValue.of(subject.getCause().getClass()));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a success");
+		}
+	}
+
+	/**
+	 * Matches a Try that is a success, and contains the given value
+	 *
+	 * @param <T> The type of expected value
+	 */
+	static final class SuccessWithValue<T> extends TryMatcher<Try<T>> {
+		private final T expectedValue;
+
+		private final Equivalence<? super T> equivalence;
+
+		private volatile CachedDescription cachedDescription;
+
+		SuccessWithValue(@NotNull T expectedValue, @Nullable Equivalence<? super T> equivalence) {
+			this.expectedValue = expectedValue;
+			this.equivalence = equivalence;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isSuccess()) {
+				T actualValue = subject.get();
+
+				if (Equivalence.test(equivalence, expectedValue, actualValue)) {
+					return true;
+				}
+
+				MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+						expectedValue, actualValue);
+				mismatchDescription.appendText("is a success, with value ")
+						.appendDescriptionOf(BoundedValue.of(actualValue));
+			} else {
+				MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a failure, with exception of type ")
+						.appendDescriptionOf(BoundedValue.of(subject.getCause().getClass()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a success, with value ").appendDescriptionOf(BoundedValue.of(expectedValue));
+		}
+	}
+
+	/**
+	 * Matches a Try that is a success, whose contents match the given matcher
+	 *
+	 * @param <T> The type of expected value
+	 */
+	static final class SuccessMatching<T> extends TryMatcher<Try<T>> {
+		private final Matcher<T> matcher;
+
+		private final MatchMemo<Try<T>, Boolean> innerResults = new MatchMemo<>();
+
+		SuccessMatching(@NotNull Matcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isSuccess()) {
+				T actualValue = subject.get();
+
+				if (MatchMemo.matchesInner(innerResults, subject, matcher, actualValue, mismatchDescription)) {
+					return true;
+				}
+
+				MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+						matcher, actualValue);
+				mismatchDescription.appendText("is a success, with value ")
+						.appendDescriptionOf(BoundedValue.of(actualValue))
+						.appendText(" not matching because ");
+				MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
+			} else {
+				MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a failure, with exception of type ")
+						.appendDescriptionOf(BoundedValue.of(subject.getCause().getClass()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a success, matching ");
+			matcher.describeTo(description);
+		}
+	}
+
+	/**
+	 * Matches a Try that is a success, whose value matches the given predicate
+	 *
+	 * @param <T> The type of value in the try
+	 */
+	static final class SuccessMatchingPredicate<T> extends TryMatcher<Try<T>> {
+		private final String predicateDescription;
+
+		private final Predicate<T> predicate;
+
+		private volatile CachedDescription cachedDescription;
+
+		SuccessMatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+			this.predicateDescription = predicateDescription;
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<T> subject, @NotNull Description mismatchDescription) {
+			if (subject.isSuccess()) {
+				T actualValue = subject.get();
+
+				if (predicate.test(actualValue)) {
+					return true;
+				}
+
+				MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH, this, actualValue);
+				mismatchDescription.appendText("is a success, which does not match ")
+						.appendDescriptionOf(BoundedValue.of(predicateDescription)).appendText(", because the value is equal to ")
+						.appendDescriptionOf(BoundedValue.of(actualValue));
+			} else {
+				MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a failure, with exception of type ")
+						.appendDescriptionOf(BoundedValue.of(subject.getCause().getClass()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a success, matching ").appendDescriptionOf(BoundedValue.of(predicateDescription));
+		}
+	}
+
+	/**
+	 * Matches a Try that is a success, and contains a number that passes the given primitive check
+	 */
+	static final class SuccessWithPrimitive extends TryMatcher<Try<?>> {
+		private final PrimitiveValue<?> check;
+
+		private volatile CachedDescription cachedDescription;
+
+		SuccessWithPrimitive(@NotNull PrimitiveValue<?> check) {
+			this.check = check;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isSuccess()) {
+				Object actualValue = subject.get();
+
+				if (check.test(actualValue)) {
+					return true;
+				}
+
+				if (check.isPredicate()) {
+					MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+							this, actualValue);
+					mismatchDescription.appendText("is a success, which does not match ").appendDescriptionOf(check)
+							.appendText(", because the value is equal to ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				} else {
+					MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.VALUE_MISMATCH,
+							check.expectation(), actualValue);
+					mismatchDescription.appendText("is a success, with value ")
+							.appendDescriptionOf(BoundedValue.of(actualValue));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a failure, with exception of type ")
+						.appendDescriptionOf(BoundedValue.of(subject.getCause().getClass()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText(check.isPredicate() ? "is a success, matching " : "is a success, with value ")
+					.appendDescriptionOf(check);
+		}
+	}
+
+	/**
+	 * Matches a Try that is a failure
+	 */
+	static final class Failure extends TryMatcher<Try<?>> {
+		@Override
+		protected boolean matchesSafely(@NotNull Try<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isFailure()) {
+				return true;
+			}
+
+			MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT, this, subject);
+			mismatchDescription.appendText("is a success, with value ")
+					.appendDescriptionOf(BoundedValue.of(subject.get()));
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a failure");
+		}
+	}
+
+	/**
+	 * Matches a Try that is a failure, containing the given exception
+	 *
+	 * @param <T> The type of Throwable
+	 */
+	static final class FailureOfType<T extends Throwable> extends TryMatcher<Try<?>> {
+		private final Class<T> expectedClass;
+
+		private volatile CachedDescription cachedDescription;
+
+		FailureOfType(@NotNull Class<T> expectedClass) {
+			this.expectedClass = expectedClass;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isFailure()) {
+				Throwable actualValue = subject.getCause();
+
+				Class<? extends Throwable> actualClass = actualValue.getClass();
+				if (expectedClass.isAssignableFrom(actualClass)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.VALUE_MISMATCH,
+							expectedClass, actualValue);
+					mismatchDescription.appendText("is a failure, with exception of type ")
+							.appendDescriptionOf(BoundedValue.of(actualClass.getName()));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a success, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a failure, with exception of type ")
+					.appendDescriptionOf(BoundedValue.of(expectedClass.getName()));
+		}
+	}
+
+	/**
+	 * Matches a Try that is a failure, whose exception matches the given matcher
+	 *
+	 * @param <T> The type of Throwable
+	 */
+	static final class FailureMatching<T extends Throwable> extends TryMatcher<Try<?>> {
+		private final Matcher<T> matcher;
+
+		private final MatchMemo<Try<?>, Boolean> innerResults = new MatchMemo<>();
+
+		FailureMatching(@NotNull Matcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isFailure()) {
+				Throwable actualValue = subject.getCause();
+
+				if (MatchMemo.matchesInner(innerResults, subject, matcher, actualValue, mismatchDescription)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.VALUE_MISMATCH,
+							matcher, actualValue);
+					mismatchDescription.appendText("is a failure, with exception of type ")
+							.appendDescriptionOf(BoundedValue.of(actualValue.getClass().getName()))
+							.appendText(" not matching because ");
+					MatchMemo.describeInnerMismatch(matcher, actualValue, mismatchDescription);
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a success, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			description.appendText("is a failure, matching ");
+			matcher.describeTo(description);
+		}
+	}
+
+	/**
+	 * Matches a Try that is a failure, the contained throwable of which matches the given predicate
+	 */
+	static final class FailureMatchingPredicate extends TryMatcher<Try<?>> {
+		private final String predicateDescription;
+
+		private final Predicate<Throwable> predicate;
+
+		private volatile CachedDescription cachedDescription;
+
+		FailureMatchingPredicate(@NotNull String predicateDescription, @NotNull Predicate<Throwable> predicate) {
+			this.predicateDescription = predicateDescription;
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected boolean matchesSafely(@NotNull Try<?> subject, @NotNull Description mismatchDescription) {
+			if (subject.isFailure()) {
+				Throwable actualValue = subject.getCause();
+
+				Class<? extends Throwable> actualClass = actualValue.getClass();
+				if (predicate.test(actualValue)) {
+					return true;
+				} else {
+					MatchResult.report(mismatchDescription, "Failure", MatchResult.Kind.VALUE_MISMATCH,
+							this, actualValue);
+					mismatchDescription.appendText("is a failure, not matching ")
+							.appendDescriptionOf(BoundedValue.of(predicateDescription))
+							.appendText(", and exception ").appendDescriptionOf(BoundedValue.of(actualClass.getName()));
+				}
+			} else {
+				MatchResult.report(mismatchDescription, "Success", MatchResult.Kind.WRONG_VARIANT, this, subject);
+				mismatchDescription.appendText("is a success, with value ")
+						.appendDescriptionOf(BoundedValue.of(subject.get()));
+			}
+
+			return false;
+		}
+
+		@Override
+		public void describeTo(@NotNull Description description) {
+			cachedDescription = CachedDescription.appendTo(description, cachedDescription, this::describeExpectation);
+		}
+
+		private void describeExpectation(@NotNull Description description) {
+			description.appendText("is a failure, with throwable matching ")
+					.appendDescriptionOf(BoundedValue.of(predicateDescription));
+		}
+	}
+}
@@ -1,20 +1,54 @@
 package com.jeroensteenbeeke.vavr.hamcrest;
 
+import io.vavr.collection.BitSet;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.PriorityQueue;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Seq;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Tree;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Comparator;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
- * Defines Hamcrest matchers for Vavr's Option, Either and Try
+ * Defines Hamcrest matchers for Vavr's Option, Either, Try, Future and Lazy, and for its collections: Seq, Stream,
+ * Iterator, Set, Map, SortedSet, SortedMap, Multimap, Queue, PriorityQueue, Tree, CharSeq and BitSet
  */
 public final class VavrMatchers {
+	// The parameterless matchers are stateless, so every caller shares the same instance
+	private static final TypeSafeDiagnosingMatcher<Option<?>> DEFINED_OPTION = new OptionMatcher.Defined();
+
+	private static final TypeSafeDiagnosingMatcher<Option<?>> EMPTY_OPTION = new OptionMatcher.Empty();
+
+	private static final TypeSafeDiagnosingMatcher<Either<?, ?>> LEFT = new EitherMatcher.Left();
+
+	private static final TypeSafeDiagnosingMatcher<Either<?, ?>> RIGHT = new EitherMatcher.Right();
+
+	private static final TypeSafeDiagnosingMatcher<Try<?>> SUCCESS = new TryMatcher.Success();
+
+	private static final TypeSafeDiagnosingMatcher<Try<?>> FAILURE = new TryMatcher.Failure();
+
 	VavrMatchers() {
 		throw new UnsupportedOperationException();
 	}
@@ -38,23 +72,7 @@ public final class VavrMatchers {
 	 */
 	@NotNull
 	public static TypeSafeDiagnosingMatcher<Option<?>> isDefinedOption() {
-		return new TypeSafeDiagnosingMatcher<Option<?>>() {
-			@Override
-			protected boolean matchesSafely(Option<?> subject, Description mismatchDescription) {
-				if (subject.isDefined()) {
-					return true;
-				} else {
-					mismatchDescription.appendText("is an empty Option");
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is an Option with a value");
-			}
-		};
+		return DEFINED_OPTION;
 	}
 
 	/**
@@ -74,23 +92,7 @@ public final class VavrMatchers {
 	 */
 	@NotNull
 	public static TypeSafeDiagnosingMatcher<Option<?>> isEmptyOption() {
-		return new TypeSafeDiagnosingMatcher<Option<?>>() {
-			@Override
-			protected boolean matchesSafely(Option<?> subject, Description mismatchDescription) {
-				if (subject.isEmpty()) {
-					return true;
-				} else {
-					mismatchDescription.appendText("is an Option with a value equal to ").appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is an empty Option");
-			}
-		};
+		return EMPTY_OPTION;
 	}
 
 	/**
@@ -105,6 +107,20 @@ public final class VavrMatchers {
 		return isDefinedOption(value);
 	}
 
+	/**
+	 * Matches an Option containing the given value, compared using the given equivalence
+	 *
+	 * @param value       The value that should be contained in the Option
+	 * @param equivalence The equivalence used to compare the actual value to the expected value
+	 * @param <T>         The type of value that should be in the Option
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Option<T>> isSome(
+			@NotNull T value, @NotNull Equivalence<? super T> equivalence) {
+		return isDefinedOption(value, equivalence);
+	}
+
 	/**
 	 * Matches an Option whose contents satisfy the given matcher
 	 *
@@ -126,28 +142,21 @@ public final class VavrMatchers {
 	 */
 	@NotNull
 	public static <T> TypeSafeDiagnosingMatcher<Option<T>> isDefinedOption(@NotNull T value) {
-		return new TypeSafeDiagnosingMatcher<Option<T>>() {
-			@Override
-			protected boolean matchesSafely(Option<T> subject, Description mismatchDescription) {
-				if (subject.isDefined()) {
-					T actualValue = subject.get();
-					if (value.equals(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is an Option with a value equal to ").appendValue(actualValue);
-					}
-				} else {
-					mismatchDescription.appendText("is an empty Option");
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is an Option with a value equal to ").appendValue(value);
-			}
-		};
+		return new OptionMatcher.DefinedWithValue<>(value, null);
+	}
+
+	/**
+	 * Matches an Option containing the given value, compared using the given equivalence
+	 *
+	 * @param value       The value that should be contained in the Option
+	 * @param equivalence The equivalence used to compare the actual value to the expected value
+	 * @param <T>         The type of value that should be in the Option
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Option<T>> isDefinedOption(
+			@NotNull T value, @NotNull Equivalence<? super T> equivalence) {
+		return new OptionMatcher.DefinedWithValue<>(value, equivalence);
 	}
 
 	/**
@@ -159,31 +168,7 @@ public final class VavrMatchers {
 	 */
 	@NotNull
 	public static <T> TypeSafeDiagnosingMatcher<Option<T>> isDefinedOption(@NotNull Matcher<T> matcher) {
-		return new TypeSafeDiagnosingMatcher<Option<T>>() {
-			@Override
-			protected boolean matchesSafely(Option<T> subject, Description mismatchDescription) {
-				if (subject.isDefined()) {
-					T actualValue = subject.get();
-					if (matcher.matches(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is an Option with value ").appendValue(actualValue)
-								.appendText(" not matching because ");
-						matcher.describeMismatch(actualValue, mismatchDescription);
-					}
-				} else {
-					mismatchDescription.appendText("is an empty Option");
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is an Option with a value matching ");
-				matcher.describeTo(description);
-			}
-		};
+		return new OptionMatcher.DefinedMatching<>(matcher);
 	}
 
 	/**
@@ -197,745 +182,1589 @@ public final class VavrMatchers {
 	@NotNull
 	public static <T> TypeSafeDiagnosingMatcher<Option<T>> isDefinedOption(
 			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
-		return new TypeSafeDiagnosingMatcher<Option<T>>() {
-			@Override
-			protected boolean matchesSafely(Option<T> subject, Description mismatchDescription) {
-				if (subject.isDefined()) {
-					if (predicate.test(subject.get())) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is an Option with a value not matching ")
-								.appendValue(predicateDescription)
-								.appendText(", because the value is equal to ").appendValue(subject.get());
-					}
-				} else {
-					mismatchDescription.appendText("is an empty Option");
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is an Option with a value matching ").appendValue(predicateDescription);
-			}
-		};
+		return new OptionMatcher.DefinedMatchingPredicate<>(predicateDescription, predicate);
 	}
-	// endregion
-
-	// region Matchers for Either<L,R>
 
 	/**
-	 * Matches an Either that is a Left (error)
+	 * Matches an Option containing the given int
 	 *
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeft() {
-		return new TypeSafeDiagnosingMatcher<Either<?, ?>>() {
-			@Override
-			protected boolean matchesSafely(Either<?, ?> subject, Description mismatchDescription) {
-				if (subject.isLeft()) {
-					return true;
-				}
-
-				mismatchDescription.appendText("is a right Either, with value ").appendValue(subject.get());
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a left Either");
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeInt(int value) {
+		return isDefinedOptionInt(value);
 	}
 
 	/**
-	 * Matches an Either that is a Left (error), with the given value
+	 * Matches an Option containing the given long
 	 *
-	 * @param expectedValue The expected value contained in the left
-	 * @param <T>           The type contained in the Either
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(@NotNull T expectedValue) {
-		return new TypeSafeDiagnosingMatcher<Either<T, ?>>() {
-			@Override
-			protected boolean matchesSafely(Either<T, ?> subject, Description mismatchDescription) {
-				if (subject.isLeft()) {
-					T actualValue = subject.getLeft();
-
-					if (actualValue.equals(expectedValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a left Either, with value ").appendValue(actualValue);
-					}
-				} else {
-					mismatchDescription.appendText("is a right Either, with value ").appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a left Either, with value ").appendValue(expectedValue);
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeLong(long value) {
+		return isDefinedOptionLong(value);
 	}
 
 	/**
-	 * Matches an Either that is a Left (error), with the given matcher
+	 * Matches an Option containing the given double. Like {@link Double#equals(Object)},
+	 * this considers {@code NaN} equal to itself, and {@code 0.0} different from {@code -0.0}
 	 *
-	 * @param matcher A matcher that the contents of the left should adhere to
-	 * @param <T>     The type contained in the Either
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(@NotNull Matcher<T> matcher) {
-		return new TypeSafeDiagnosingMatcher<Either<T, ?>>() {
-			@Override
-			protected boolean matchesSafely(Either<T, ?> subject, Description mismatchDescription) {
-				if (subject.isLeft()) {
-					T actualValue = subject.getLeft();
-
-					if (matcher.matches(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a left Either, with value ").appendValue(actualValue)
-								.appendText(" not matching because ");
-						matcher.describeMismatch(actualValue, mismatchDescription);
-					}
-				} else {
-					mismatchDescription.appendText("is a right Either, with value ").appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a left Either, matching ");
-				matcher.describeTo(description);
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeDouble(double value) {
+		return isDefinedOptionDouble(value);
 	}
 
 	/**
-	 * Matches a left Either with a value matching the given Predicate
+	 * Matches an Option containing the given double, allowing it to differ by at most the given tolerance
 	 *
-	 * @param predicateDescription Describes the predicate for user feedback
-	 * @param predicate            The predicate to match
-	 * @param <T>                  The type of value that should be in the Either
+	 * @param value     The expected value
+	 * @param tolerance The maximum absolute difference between the expected and actual value
 	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(
-			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
-		return new TypeSafeDiagnosingMatcher<Either<T, ?>>() {
-			@Override
-			protected boolean matchesSafely(Either<T, ?> subject, Description mismatchDescription) {
-				if (subject.isLeft()) {
-					T actualValue = subject.getLeft();
-
-					if (predicate.test(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a left Either, with a value not matching ")
-								.appendValue(predicateDescription).appendText(", because the value is equal to ")
-								.appendValue(actualValue);
-					}
-				} else {
-					mismatchDescription.appendText("is a right Either, with value ").appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a left Either, with a value matching ").appendValue(predicateDescription);
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeDouble(double value, double tolerance) {
+		return isDefinedOptionDouble(value, tolerance);
 	}
 
 	/**
-	 * Matches an Either that is a Right (success)
+	 * Matches an Option containing the given int
 	 *
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRight() {
-		return new TypeSafeDiagnosingMatcher<Either<?, ?>>() {
-			@Override
-			protected boolean matchesSafely(Either<?, ?> subject, Description mismatchDescription) {
-				if (subject.isRight()) {
-					return true;
-				}
-
-				mismatchDescription.appendText("is a left Either, with value ").appendValue(subject.getLeft());
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a right Either");
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isDefinedOptionInt(int value) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches an Either that is a Right (success), with the given value
+	 * Matches an Option containing the given long
 	 *
-	 * @param expectedValue The expected value contained in the right
-	 * @param <T>           The type contained in the Either
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(@NotNull T expectedValue) {
-		return new TypeSafeDiagnosingMatcher<Either<?, T>>() {
-			@Override
-			protected boolean matchesSafely(Either<?, T> subject, Description mismatchDescription) {
-				if (subject.isRight()) {
-					T actualValue = subject.get();
+	public static TypeSafeDiagnosingMatcher<Option<?>> isDefinedOptionLong(long value) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.equalTo(value));
+	}
 
-					if (actualValue.equals(expectedValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a right Either, with value ").appendValue(actualValue);
-					}
-				} else {
-					mismatchDescription.appendText("is a left Either, with value ").appendValue(subject.getLeft());
-				}
+	/**
+	 * Matches an Option containing the given double. Like {@link Double#equals(Object)},
+	 * this considers {@code NaN} equal to itself, and {@code 0.0} different from {@code -0.0}
+	 *
+	 * @param value The expected value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Option<?>> isDefinedOptionDouble(double value) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.equalTo(value));
+	}
 
-				return false;
-			}
+	/**
+	 * Matches an Option containing the given double, allowing it to differ by at most the given tolerance
+	 *
+	 * @param value     The expected value
+	 * @param tolerance The maximum absolute difference between the expected and actual value
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Option<?>> isDefinedOptionDouble(double value, double tolerance) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.closeTo(value, tolerance));
+	}
 
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a right Either, with value ").appendValue(expectedValue);
-			}
-		};
+	/**
+	 * Matches an Option with an int value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeInt(
+			@NotNull String predicateDescription, @NotNull IntPredicate predicate) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.matchingInt(predicateDescription, predicate));
 	}
 
 	/**
-	 * Matches an Either that is a Right (success), with the given matcher
+	 * Matches an Option with a long value matching the given predicate, which
+	 * receives the value unboxed
 	 *
-	 * @param matcher The matcher that the contents should adhere to
-	 * @param <T>     The type contained in the Either
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(@NotNull Matcher<T> matcher) {
-		return new TypeSafeDiagnosingMatcher<Either<?, T>>() {
-			@Override
-			protected boolean matchesSafely(Either<?, T> subject, Description mismatchDescription) {
-				if (subject.isRight()) {
-					T actualValue = subject.get();
-
-					if (matcher.matches(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a right Either, with value ").appendValue(actualValue)
-								.appendText(" not matching because ");
-						matcher.describeMismatch(actualValue, mismatchDescription);
-					}
-				} else {
-					mismatchDescription.appendText("is a left Either, with value ").appendValue(subject.getLeft());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a right Either, matching ");
-				matcher.describeTo(description);
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeLong(
+			@NotNull String predicateDescription, @NotNull LongPredicate predicate) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.matchingLong(predicateDescription, predicate));
 	}
 
 	/**
-	 * Matches a right Either with a value matching the given Predicate
+	 * Matches an Option with a double value matching the given predicate, which
+	 * receives the value unboxed
 	 *
 	 * @param predicateDescription Describes the predicate for user feedback
 	 * @param predicate            The predicate to match
-	 * @param <T>                  The type of value that should be in the Either
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(
-			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
-		return new TypeSafeDiagnosingMatcher<Either<?, T>>() {
-			@Override
-			protected boolean matchesSafely(Either<?, T> subject, Description mismatchDescription) {
-				if (subject.isRight()) {
-					T actualValue = subject.get();
-
-					if (predicate.test(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a right Either, with a value not matching ")
-								.appendValue(predicateDescription).appendText(", because the value is equal to ")
-								.appendValue(actualValue);
-					}
-				} else {
-					mismatchDescription.appendText("is a left Either, with value ").appendValue(subject.getLeft());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a right Either, with a value matching ").appendValue(predicateDescription);
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Option<?>> isSomeDouble(
+			@NotNull String predicateDescription, @NotNull DoublePredicate predicate) {
+		return new OptionMatcher.DefinedWithPrimitive(PrimitiveValue.matchingDouble(predicateDescription, predicate));
 	}
 	// endregion
 
-	// region Matchers for Try<T>
+	// region Matchers for Either<L,R>
 
 	/**
-	 * Matches a Try that is a success
+	 * Matches an Either that is a Left (error)
 	 *
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccess() {
-		return new TypeSafeDiagnosingMatcher<Try<?>>() {
-			@Override
-			protected boolean matchesSafely(Try<?> subject, Description mismatchDescription) {
-				if (subject.isSuccess()) {
-					return true;
-				}
-
-				mismatchDescription.appendText("is a failure, with exception of type ")
-						.appendValue(subject.getCause().getClass());
-
-				return false;
-			}
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeft() {
+		return LEFT;
+	}
 
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a success");
-			}
-		};
+	/**
+	 * Matches an Either that is a Left (error), with the given value
+	 *
+	 * @param expectedValue The expected value contained in the left
+	 * @param <T>           The type contained in the Either
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(@NotNull T expectedValue) {
+		return new EitherMatcher.LeftWithValue<>(expectedValue, null);
 	}
 
 	/**
-	 * A matcher for Try that is a success, and contains the given value
+	 * Matches an Either that is a Left (error), with the given value, compared using the given equivalence
 	 *
 	 * @param expectedValue The expected value
-	 * @param <T>           The type of expected value
+	 * @param equivalence   The equivalence used to compare the actual value to the expected value
+	 * @param <T>           The type of value in the Left
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(@NotNull T expectedValue) {
-		return new TypeSafeDiagnosingMatcher<Try<T>>() {
-			@Override
-			protected boolean matchesSafely(Try<T> subject, Description mismatchDescription) {
-				if (subject.isSuccess()) {
-					T actualValue = subject.get();
-
-					if (expectedValue.equals(actualValue)) {
-						return true;
-					}
-
-					mismatchDescription.appendText("is a success, with value ")
-							.appendValue(actualValue);
-				} else {
-					mismatchDescription.appendText("is a failure, with exception of type ")
-							.appendValue(subject.getCause().getClass());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a success, with value ").appendValue(expectedValue);
-			}
-		};
+	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(
+			@NotNull T expectedValue, @NotNull Equivalence<? super T> equivalence) {
+		return new EitherMatcher.LeftWithValue<>(expectedValue, equivalence);
 	}
 
 	/**
-	 * A matcher for Try that is a success, whose contents match the given matcher
+	 * Matches an Either that is a Left (error), with the given matcher
 	 *
-	 * @param matcher The matcher that the contents should adhere to
-	 * @param <T>     The type of expected value
+	 * @param matcher A matcher that the contents of the left should adhere to
+	 * @param <T>     The type contained in the Either
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(@NotNull Matcher<T> matcher) {
-		return new TypeSafeDiagnosingMatcher<Try<T>>() {
-			@Override
-			protected boolean matchesSafely(Try<T> subject, Description mismatchDescription) {
-				if (subject.isSuccess()) {
-					T actualValue = subject.get();
-
-					if (matcher.matches(actualValue)) {
-						return true;
-					}
-
-					mismatchDescription.appendText("is a success, with value ")
-							.appendValue(actualValue)
-							.appendText(" not matching because ");
-					matcher.describeMismatch(actualValue, mismatchDescription);
-				} else {
-					mismatchDescription.appendText("is a failure, with exception of type ")
-							.appendValue(subject.getCause().getClass());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a success, matching ");
-				matcher.describeTo(description);
-			}
-		};
+	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(@NotNull Matcher<T> matcher) {
+		return new EitherMatcher.LeftMatching<>(matcher);
 	}
 
 	/**
-	 * Matches a Try that is a success, whose value matches the given predicate
+	 * Matches a left Either with a value matching the given Predicate
 	 *
 	 * @param predicateDescription Describes the predicate for user feedback
 	 * @param predicate            The predicate to match
-	 * @param <T>                  The type of value in the try
+	 * @param <T>                  The type of value that should be in the Either
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(
+	public static <T> TypeSafeDiagnosingMatcher<Either<T, ?>> isLeft(
 			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
-		return new TypeSafeDiagnosingMatcher<Try<T>>() {
-			@Override
-			protected boolean matchesSafely(Try<T> subject, Description mismatchDescription) {
-				if (subject.isSuccess()) {
-					T actualValue = subject.get();
-
-					if (predicate.test(actualValue)) {
-						return true;
-					}
-
-					mismatchDescription.appendText("is a success, which does not match ")
-							.appendValue(predicateDescription).appendText(", because the value is equal to ")
-							.appendValue(actualValue);
-				} else {
-					mismatchDescription.appendText("is a failure, with exception of type ")
-							.appendValue(subject.getCause().getClass());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a success, matching ").appendValue(predicateDescription);
-			}
-		};
+		return new EitherMatcher.LeftMatchingPredicate<>(predicateDescription, predicate);
 	}
 
 	/**
-	 * Matches a Try that is a failure
+	 * Matches an Either that is a Right (success)
 	 *
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static TypeSafeDiagnosingMatcher<Try<?>> isFailure() {
-		return new TypeSafeDiagnosingMatcher<Try<?>>() {
-			@Override
-			protected boolean matchesSafely(Try<?> subject, Description mismatchDescription) {
-				if (subject.isFailure()) {
-					return true;
-				}
-
-				mismatchDescription.appendText("is a success, with value ")
-						.appendValue(subject.get());
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a failure");
-			}
-		};
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRight() {
+		return RIGHT;
 	}
 
 	/**
-	 * Matches a Try that is a failure, containing the given exception
+	 * Matches an Either that is a Right (success), with the given value
 	 *
-	 * @param expectedClass The class of the exception contained in the Try
-	 * @param <T>           The type of Throwable
+	 * @param expectedValue The expected value contained in the right
+	 * @param <T>           The type contained in the Either
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T extends Throwable> TypeSafeDiagnosingMatcher<Try<?>> isFailure(@NotNull Class<T> expectedClass) {
-		return new TypeSafeDiagnosingMatcher<Try<?>>() {
-			@Override
-			protected boolean matchesSafely(Try<?> subject, Description mismatchDescription) {
-				if (subject.isFailure()) {
-					Throwable actualValue = subject.getCause();
-
-					Class<? extends Throwable> actualClass = actualValue.getClass();
-					if (expectedClass.isAssignableFrom(actualClass)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a failure, with exception of type ")
-								.appendValue(actualClass.getName());
-					}
-				} else {
-					mismatchDescription.appendText("is a success, with value ")
-							.appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a failure, with exception of type ").appendValue(expectedClass.getName());
-			}
-		};
+	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(@NotNull T expectedValue) {
+		return new EitherMatcher.RightWithValue<>(expectedValue, null);
 	}
 
 	/**
-	 * Matches a Try that is a failure, containing the given exception
+	 * Matches an Either that is a Right (success), with the given value, compared using the given equivalence
 	 *
-	 * @param matcher A matcher the throwable should adhere to
-	 * @param <T>     The type of Throwable
+	 * @param expectedValue The expected value
+	 * @param equivalence   The equivalence used to compare the actual value to the expected value
+	 * @param <T>           The type of value in the Right
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T extends Throwable> TypeSafeDiagnosingMatcher<Try<?>> isFailure(@NotNull Matcher<T> matcher) {
-		return new TypeSafeDiagnosingMatcher<Try<?>>() {
-			@Override
-			protected boolean matchesSafely(Try<?> subject, Description mismatchDescription) {
-				if (subject.isFailure()) {
-					Throwable actualValue = subject.getCause();
-
-					if (matcher.matches(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a failure, with exception of type ")
-								.appendValue(actualValue.getClass().getName())
-								.appendText(" not matching because ");
-						matcher.describeMismatch(actualValue, mismatchDescription);
-					}
-				} else {
-					mismatchDescription.appendText("is a success, with value ")
-							.appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a failure, matching ");
-				matcher.describeTo(description);
-			}
-		};
+	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(
+			@NotNull T expectedValue, @NotNull Equivalence<? super T> equivalence) {
+		return new EitherMatcher.RightWithValue<>(expectedValue, equivalence);
 	}
 
 	/**
-	 * Matches a try that is a failure, the contained throwable of which matches the given predicate
+	 * Matches an Either that is a Right (success), with the given matcher
 	 *
-	 * @param predicateDescription The description of the predicate
-	 * @param predicate            The predicate
-	 * @return A HamCrest matcher
+	 * @param matcher The matcher that the contents should adhere to
+	 * @param <T>     The type contained in the Either
+	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static TypeSafeDiagnosingMatcher<Try<?>> isFailure(
-			@NotNull String predicateDescription, @NotNull Predicate<Throwable> predicate) {
-		return new TypeSafeDiagnosingMatcher<Try<?>>() {
-			@Override
-			protected boolean matchesSafely(Try<?> subject, Description mismatchDescription) {
-				if (subject.isFailure()) {
-					Throwable actualValue = subject.getCause();
-
-					Class<? extends Throwable> actualClass = actualValue.getClass();
-					if (predicate.test(actualValue)) {
-						return true;
-					} else {
-						mismatchDescription.appendText("is a failure, not matching ").appendValue(predicateDescription)
-								.appendText(", and exception ").appendValue(actualClass.getName());
-					}
-				} else {
-					mismatchDescription.appendText("is a success, with value ")
-							.appendValue(subject.get());
-				}
-
-				return false;
-			}
-
-			@Override
-			public void describeTo(Description description) {
-				description.appendText("is a failure, with throwable matching ").appendValue(predicateDescription);
-			}
-		};
+	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(@NotNull Matcher<T> matcher) {
+		return new EitherMatcher.RightMatching<>(matcher);
 	}
 
-	// endregion
-
-	// region Matchers for Future<T>
-
 	/**
-	 * Matches a future with any value
+	 * Matches a right Either with a value matching the given Predicate
 	 *
-	 * @param <T> The type of object returned by the future
-	 * @return A matcher
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @param <T>                  The type of value that should be in the Either
+	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher<T, ?> isFuture() {
-		return new FutureMatcher.Success<>();
+	public static <T> TypeSafeDiagnosingMatcher<Either<?, T>> isRight(
+			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+		return new EitherMatcher.RightMatchingPredicate<>(predicateDescription, predicate);
 	}
 
 	/**
-	 * Matches a future with the given value
+	 * Matches an Either that is a Left (error), with the given int
 	 *
-	 * @param expectedValue The expected value
-	 * @param <T>           The type of object returned by the future
-	 * @return A matcher
+	 * @param value The expected value
+	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher<T, ?> isFuture(@NotNull T expectedValue) {
-		return new FutureMatcher.SuccessWithValue<>(expectedValue);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftInt(int value) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches a future whose result matches a given matcher
+	 * Matches an Either that is a Left (error), with the given long
 	 *
-	 * @param matcher The matcher the result should adhere to
-	 * @param <T>           The type of object returned by the future
-	 * @return A matcher
+	 * @param value The expected value
+	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher<T, ?> isFuture(@NotNull Matcher<T> matcher) {
-		return new FutureMatcher.SuccessMatching<>(matcher);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftLong(long value) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches a future whose result matches the given predicate
+	 * Matches an Either that is a Left (error), with the given double. Like {@link Double#equals(Object)},
+	 * this considers {@code NaN} equal to itself, and {@code 0.0} different from {@code -0.0}
 	 *
-	 * @param predicateDescription A human-readable description of the predicate
-	 * @param predicate            The predicate
-	 * @param <T>                  The type of value returned by the future
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher<T, ?> isFutureMatching(
-			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
-		return new FutureMatcher.SuccessMatchingPredicate<>(predicateDescription, predicate);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftDouble(double value) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches a Future that fails
+	 * Matches an Either that is a Left (error), with the given double, allowing it to differ by at
+	 * most the given tolerance
 	 *
-	 * @param <T> The type of value that would be returned by the future if it succeeded instead
+	 * @param value     The expected value
+	 * @param tolerance The maximum absolute difference between the expected and actual value
 	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
 	 */
 	@NotNull
-	public static <T> FutureMatcher<T, ?> isFailedFuture() {
-		return new FutureMatcher.Failure<>();
-
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftDouble(double value, double tolerance) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.closeTo(value, tolerance));
 	}
 
 	/**
-	 * Matches a Future that fails, due to the given exception type
+	 * Matches a left Either with an int value matching the given predicate, which
+	 * receives the value unboxed
 	 *
-	 * @param expectedException The exception that we expect to cause the future to fail
-	 * @param <T>               The type of value that would be returned by the future if it succeeded instead
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher.FailureOfType<T> isFailedFuture(
-			@NotNull Class<? extends Throwable> expectedException) {
-		return new FutureMatcher.FailureOfType<>(expectedException);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftInt(
+			@NotNull String predicateDescription, @NotNull IntPredicate predicate) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.matchingInt(predicateDescription, predicate));
 	}
 
 	/**
-	 * Matches a Future that fails, due to the given exception type
+	 * Matches a left Either with a long value matching the given predicate, which
+	 * receives the value unboxed
 	 *
-	 * @param matcher The matcher the exception should adhere to
-	 * @param <T>               The type of value that would be returned by the future if it succeeded instead
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher.FailureMatching<T> isFailedFuture(
-			@NotNull Matcher<? extends Throwable> matcher) {
-		return new FutureMatcher.FailureMatching<>(matcher);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftLong(
+			@NotNull String predicateDescription, @NotNull LongPredicate predicate) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.matchingLong(predicateDescription, predicate));
 	}
 
 	/**
-	 * Matches a Future that fails, due to an exception matching the given predicate
+	 * Matches a left Either with a double value matching the given predicate, which
+	 * receives the value unboxed
 	 *
-	 * @param predicateDescription A human-readable description of the predicate
-	 * @param throwablePredicate   The predicate
-	 * @param <T>                  The type of value that would have been returned by the Future if it had succeeded
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> FutureMatcher.FailureMatchingPredicate<T> isFailedFutureMatching(
-			@NotNull String predicateDescription, @NotNull Predicate<Throwable> throwablePredicate) {
-		return new FutureMatcher.FailureMatchingPredicate<>(predicateDescription, throwablePredicate);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isLeftDouble(
+			@NotNull String predicateDescription, @NotNull DoublePredicate predicate) {
+		return new EitherMatcher.LeftWithPrimitive(PrimitiveValue.matchingDouble(predicateDescription, predicate));
 	}
 
-	// endregion
-
-	// region Matchers for Lazy<T>
-
 	/**
-	 * Matches a Lazy that yields any value
+	 * Matches an Either that is a Right (success), with the given int
 	 *
-	 * @param <T> The type of value returned by the lazy
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> LazyMatcher<T, ?> isLazy() {
-		return new LazyMatcher.Bare<>();
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightInt(int value) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches a Lazy that yields any value
+	 * Matches an Either that is a Right (success), with the given long
 	 *
-	 * @param expectedValue The value the Lazy should yield
-	 * @param <T>           The type of value returned by the lazy
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> LazyMatcher<T, ?> isLazy(@NotNull T expectedValue) {
-		return new LazyMatcher.Valued<>(expectedValue);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightLong(long value) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches a Lazy that yields any value
+	 * Matches an Either that is a Right (success), with the given double. Like {@link Double#equals(Object)},
+	 * this considers {@code NaN} equal to itself, and {@code 0.0} different from {@code -0.0}
 	 *
-	 * @param matcher The matcher the lazily calculated value should adhere to
-	 * @param <T>           The type of value returned by the lazy
+	 * @param value The expected value
 	 * @return A Hamcrest matcher
 	 */
 	@NotNull
-	public static <T> LazyMatcher<T, ?> isLazy(@NotNull Matcher<T> matcher) {
-		return new LazyMatcher.Matching<>(matcher);
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightDouble(double value) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.equalTo(value));
 	}
 
 	/**
-	 * Matches a Lazy whose result matches the given predicate
+	 * Matches an Either that is a Right (success), with the given double, allowing it to differ by at
+	 * most the given tolerance
 	 *
-	 * @param predicateDescription A human-readable description of the predicate
-	 * @param predicate            The predicate
-	 * @param <T>                  The type of value returned by the Lazy
+	 * @param value     The expected value
+	 * @param tolerance The maximum absolute difference between the expected and actual value
 	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
 	 */
 	@NotNull
-	public static <T> LazyMatcher<T, ?> isLazyMatching(
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightDouble(double value, double tolerance) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.closeTo(value, tolerance));
+	}
+
+	/**
+	 * Matches a right Either with an int value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightInt(
+			@NotNull String predicateDescription, @NotNull IntPredicate predicate) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.matchingInt(predicateDescription, predicate));
+	}
+
+	/**
+	 * Matches a right Either with a long value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightLong(
+			@NotNull String predicateDescription, @NotNull LongPredicate predicate) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.matchingLong(predicateDescription, predicate));
+	}
+
+	/**
+	 * Matches a right Either with a double value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Either<?, ?>> isRightDouble(
+			@NotNull String predicateDescription, @NotNull DoublePredicate predicate) {
+		return new EitherMatcher.RightWithPrimitive(PrimitiveValue.matchingDouble(predicateDescription, predicate));
+	}
+	// endregion
+
+	// region Matchers for Try<T>
+
+	/**
+	 * Matches a Try that is a success
+	 *
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccess() {
+		return SUCCESS;
+	}
+
+	/**
+	 * A matcher for Try that is a success, and contains the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of expected value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(@NotNull T expectedValue) {
+		return new TryMatcher.SuccessWithValue<>(expectedValue, null);
+	}
+
+	/**
+	 * Matches a Try that is a success, containing the given value, compared using the given equivalence
+	 *
+	 * @param expectedValue The expected value
+	 * @param equivalence   The equivalence used to compare the actual value to the expected value
+	 * @param <T>           The type of value in the Try
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(
+			@NotNull T expectedValue, @NotNull Equivalence<? super T> equivalence) {
+		return new TryMatcher.SuccessWithValue<>(expectedValue, equivalence);
+	}
+
+	/**
+	 * A matcher for Try that is a success, whose contents match the given matcher
+	 *
+	 * @param matcher The matcher that the contents should adhere to
+	 * @param <T>     The type of expected value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(@NotNull Matcher<T> matcher) {
+		return new TryMatcher.SuccessMatching<>(matcher);
+	}
+
+	/**
+	 * Matches a Try that is a success, whose value matches the given predicate
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @param <T>                  The type of value in the try
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Try<T>> isSuccess(
 			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
-		return new LazyMatcher.MatchingPredicate<>(predicateDescription, predicate);
+		return new TryMatcher.SuccessMatchingPredicate<>(predicateDescription, predicate);
+	}
+
+	/**
+	 * Matches a Try that is a failure
+	 *
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isFailure() {
+		return FAILURE;
+	}
+
+	/**
+	 * Matches a Try that is a failure, containing the given exception
+	 *
+	 * @param expectedClass The class of the exception contained in the Try
+	 * @param <T>           The type of Throwable
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T extends Throwable> TypeSafeDiagnosingMatcher<Try<?>> isFailure(@NotNull Class<T> expectedClass) {
+		return new TryMatcher.FailureOfType<>(expectedClass);
+	}
+
+	/**
+	 * Matches a Try that is a failure, containing the given exception
+	 *
+	 * @param matcher A matcher the throwable should adhere to
+	 * @param <T>     The type of Throwable
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T extends Throwable> TypeSafeDiagnosingMatcher<Try<?>> isFailure(@NotNull Matcher<T> matcher) {
+		return new TryMatcher.FailureMatching<>(matcher);
+	}
+
+	/**
+	 * Matches a try that is a failure, the contained throwable of which matches the given predicate
+	 *
+	 * @param predicateDescription The description of the predicate
+	 * @param predicate            The predicate
+	 * @return A HamCrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isFailure(
+			@NotNull String predicateDescription, @NotNull Predicate<Throwable> predicate) {
+		return new TryMatcher.FailureMatchingPredicate(predicateDescription, predicate);
+	}
+
+
+	/**
+	 * Matches a Try that is a success, containing the given int
+	 *
+	 * @param value The expected value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessInt(int value) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.equalTo(value));
+	}
+
+	/**
+	 * Matches a Try that is a success, containing the given long
+	 *
+	 * @param value The expected value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessLong(long value) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.equalTo(value));
+	}
+
+	/**
+	 * Matches a Try that is a success, containing the given double. Like {@link Double#equals(Object)},
+	 * this considers {@code NaN} equal to itself, and {@code 0.0} different from {@code -0.0}
+	 *
+	 * @param value The expected value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessDouble(double value) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.equalTo(value));
+	}
+
+	/**
+	 * Matches a Try that is a success, containing the given double, allowing it to differ by at
+	 * most the given tolerance
+	 *
+	 * @param value     The expected value
+	 * @param tolerance The maximum absolute difference between the expected and actual value
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the tolerance is negative or not a number
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessDouble(double value, double tolerance) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.closeTo(value, tolerance));
+	}
+
+	/**
+	 * Matches a Try that is a success, with an int value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessInt(
+			@NotNull String predicateDescription, @NotNull IntPredicate predicate) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.matchingInt(predicateDescription, predicate));
+	}
+
+	/**
+	 * Matches a Try that is a success, with a long value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessLong(
+			@NotNull String predicateDescription, @NotNull LongPredicate predicate) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.matchingLong(predicateDescription, predicate));
+	}
+
+	/**
+	 * Matches a Try that is a success, with a double value matching the given predicate, which
+	 * receives the value unboxed
+	 *
+	 * @param predicateDescription Describes the predicate for user feedback
+	 * @param predicate            The predicate to match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Try<?>> isSuccessDouble(
+			@NotNull String predicateDescription, @NotNull DoublePredicate predicate) {
+		return new TryMatcher.SuccessWithPrimitive(PrimitiveValue.matchingDouble(predicateDescription, predicate));
+	}
+	// endregion
+
+	// region Matchers for Future<T>
+
+	/**
+	 * Matches a future with any value
+	 *
+	 * @param <T> The type of object returned by the future
+	 * @return A matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher<T, ?> isFuture() {
+		return new FutureMatcher.Success<>();
+	}
+
+	/**
+	 * Matches a future with the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of object returned by the future
+	 * @return A matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher<T, ?> isFuture(@NotNull T expectedValue) {
+		return new FutureMatcher.SuccessWithValue<>(expectedValue, null);
+	}
+
+	/**
+	 * Matches a future with the given value, compared using the given equivalence
+	 *
+	 * @param expectedValue The expected value
+	 * @param equivalence   The equivalence used to compare the actual value to the expected value
+	 * @param <T>           The type of object returned by the future
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher<T, ?> isFuture(
+			@NotNull T expectedValue, @NotNull Equivalence<? super T> equivalence) {
+		return new FutureMatcher.SuccessWithValue<>(expectedValue, equivalence);
+	}
+
+	/**
+	 * Matches a future whose result matches a given matcher
+	 *
+	 * @param matcher The matcher the result should adhere to
+	 * @param <T>           The type of object returned by the future
+	 * @return A matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher<T, ?> isFuture(@NotNull Matcher<T> matcher) {
+		return new FutureMatcher.SuccessMatching<>(matcher);
+	}
+
+	/**
+	 * Matches a future whose result matches the given predicate
+	 *
+	 * @param predicateDescription A human-readable description of the predicate
+	 * @param predicate            The predicate
+	 * @param <T>                  The type of value returned by the future
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher<T, ?> isFutureMatching(
+			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+		return new FutureMatcher.SuccessMatchingPredicate<>(predicateDescription, predicate);
+	}
+
+	/**
+	 * Matches a Future that fails
+	 *
+	 * @param <T> The type of value that would be returned by the future if it succeeded instead
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher<T, ?> isFailedFuture() {
+		return new FutureMatcher.Failure<>();
+
+	}
+
+	/**
+	 * Matches a Future that fails, due to the given exception type
+	 *
+	 * @param expectedException The exception that we expect to cause the future to fail
+	 * @param <T>               The type of value that would be returned by the future if it succeeded instead
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher.FailureOfType<T> isFailedFuture(
+			@NotNull Class<? extends Throwable> expectedException) {
+		return new FutureMatcher.FailureOfType<>(expectedException);
+	}
+
+	/**
+	 * Matches a Future that fails, due to the given exception type
+	 *
+	 * @param matcher The matcher the exception should adhere to
+	 * @param <T>               The type of value that would be returned by the future if it succeeded instead
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher.FailureMatching<T> isFailedFuture(
+			@NotNull Matcher<? extends Throwable> matcher) {
+		return new FutureMatcher.FailureMatching<>(matcher);
+	}
+
+	/**
+	 * Matches a Future that fails, due to an exception matching the given predicate
+	 *
+	 * @param predicateDescription A human-readable description of the predicate
+	 * @param throwablePredicate   The predicate
+	 * @param <T>                  The type of value that would have been returned by the Future if it had succeeded
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> FutureMatcher.FailureMatchingPredicate<T> isFailedFutureMatching(
+			@NotNull String predicateDescription, @NotNull Predicate<Throwable> throwablePredicate) {
+		return new FutureMatcher.FailureMatchingPredicate<>(predicateDescription, throwablePredicate);
+	}
+
+	// endregion
+
+	// region Matchers for Lazy<T>
+
+	/**
+	 * Matches a Lazy that yields any value
+	 *
+	 * @param <T> The type of value returned by the lazy
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> LazyMatcher<T, ?> isLazy() {
+		return new LazyMatcher.Bare<>();
+	}
+
+	/**
+	 * Matches a Lazy that yields any value
+	 *
+	 * @param expectedValue The value the Lazy should yield
+	 * @param <T>           The type of value returned by the lazy
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> LazyMatcher<T, ?> isLazy(@NotNull T expectedValue) {
+		return new LazyMatcher.Valued<>(expectedValue);
+	}
+
+	/**
+	 * Matches a Lazy that yields the given value, compared using the given equivalence
+	 *
+	 * @param expectedValue The value the Lazy should yield
+	 * @param equivalence   The equivalence used to compare the actual value to the expected value
+	 * @param <T>           The type of value returned by the lazy
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> LazyMatcher<T, ?> isLazy(
+			@NotNull T expectedValue, @NotNull Equivalence<? super T> equivalence) {
+		return new LazyMatcher.Valued<>(expectedValue, equivalence);
+	}
+
+	/**
+	 * Matches a Lazy that yields any value
+	 *
+	 * @param matcher The matcher the lazily calculated value should adhere to
+	 * @param <T>           The type of value returned by the lazy
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> LazyMatcher<T, ?> isLazy(@NotNull Matcher<T> matcher) {
+		return new LazyMatcher.Matching<>(matcher);
+	}
+
+	/**
+	 * Matches a Lazy whose result matches the given predicate
+	 *
+	 * @param predicateDescription A human-readable description of the predicate
+	 * @param predicate            The predicate
+	 * @param <T>                  The type of value returned by the Lazy
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> LazyMatcher<T, ?> isLazyMatching(
+			@NotNull String predicateDescription, @NotNull Predicate<T> predicate) {
+		return new LazyMatcher.MatchingPredicate<>(predicateDescription, predicate);
+	}
+
+	// endregion
+
+	// region Matchers for Seq<T>
+
+	/**
+	 * Matches a Seq that contains exactly the given elements, in the given order. Elements are compared using the
+	 * global {@link Equivalence}
+	 *
+	 * @param elements The expected elements
+	 * @param <T>      The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Seq<? extends T>> containsInOrder(@NotNull T... elements) {
+		return new SeqMatcher.ContainsInOrder<>(elements.clone());
+	}
+
+	/**
+	 * Matches a Seq whose elements satisfy the given matchers, in the given order, without any other elements
+	 *
+	 * @param matchers The matchers the elements should satisfy
+	 * @param <T>      The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Seq<? extends T>> containsInOrder(
+			@NotNull Matcher<? super T>... matchers) {
+		return new SeqMatcher.ContainsMatchingInOrder<>(matchers.clone());
+	}
+
+	/**
+	 * Matches a Seq that starts with the given elements, in the given order. Elements are compared using the
+	 * global {@link Equivalence}, and elements after the prefix are never visited
+	 *
+	 * @param prefix The expected first elements
+	 * @param <T>    The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Seq<? extends T>> hasPrefix(@NotNull T... prefix) {
+		return new SeqMatcher.StartsWith<>(prefix.clone());
+	}
+
+	/**
+	 * Matches a Seq of which every element satisfies the given matcher
+	 *
+	 * @param matcher The matcher every element should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Seq<? extends T>> everyElement(@NotNull Matcher<? super T> matcher) {
+		return new SeqMatcher.EveryElement<>(matcher);
+	}
+
+	/**
+	 * Matches an IndexedSeq, such as a Vector or Array, of which every element in a reproducible random sample
+	 * satisfies the given matcher. The sampled indices are drawn, with replacement, from a random number generator
+	 * with the given seed, and read with {@code get}. The mismatch description names the seed and the index of the
+	 * element that did not match. If the sample is at least as large as the IndexedSeq, every element is checked
+	 *
+	 * @param sampleSize The number of elements to check
+	 * @param seed       The seed of the random number generator that picks the indices
+	 * @param matcher    The matcher every sampled element should satisfy
+	 * @param <T>        The type of element
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the sample size is negative
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<IndexedSeq<? extends T>> everySampledElement(
+			int sampleSize, long seed, @NotNull Matcher<? super T> matcher) {
+		return new IndexedSeqMatcher.EverySampled<>(sampleSize, seed, matcher);
+	}
+
+	/**
+	 * Matches an IndexedSeq, such as a Vector or Array, of which every element at a multiple of the given stride
+	 * satisfies the given matcher. The elements are read with {@code get}, and the mismatch description names the
+	 * index of the element that did not match
+	 *
+	 * @param stride  The distance between the indices of the elements to check
+	 * @param matcher The matcher every checked element should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the stride is not positive
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<IndexedSeq<? extends T>> everyNthElement(
+			int stride, @NotNull Matcher<? super T> matcher) {
+		return new IndexedSeqMatcher.EveryNth<>(stride, matcher);
+	}
+
+	/**
+	 * Matches a Seq with the given number of elements. A lazy Seq is only evaluated up to one element past the
+	 * given length
+	 *
+	 * @param length The expected number of elements
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Seq<?>> hasLength(int length) {
+		return new SeqMatcher.HasLength(length);
+	}
+
+	// endregion
+
+	// region Matchers for Stream<T>
+
+	/**
+	 * Matches a Stream that starts with the given elements, in the given order. No more elements are evaluated than
+	 * there are in the prefix
+	 *
+	 * @param prefix The expected first elements
+	 * @param <T>    The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Stream<? extends T>> hasStreamPrefix(@NotNull T... prefix) {
+		return new StreamMatcher.StartsWith<>(prefix.clone());
+	}
+
+	/**
+	 * Matches a Stream of which the first {@code count} elements all satisfy the given matcher. The Stream should
+	 * have at least {@code count} elements, and no more than that are evaluated
+	 *
+	 * @param count   The number of elements to check
+	 * @param matcher The matcher each element should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the count is negative
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Stream<? extends T>> hasFirstElementsMatching(
+			int count, @NotNull Matcher<? super T> matcher) {
+		return new StreamMatcher.FirstElementsMatching<>(count, matcher);
+	}
+
+	/**
+	 * Matches a Stream with an element that satisfies the given matcher among its first {@code count} elements. No
+	 * more than {@code count} elements are evaluated, and the search stops at the first match
+	 *
+	 * @param count   The number of elements to search
+	 * @param matcher The matcher an element should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the count is negative
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Stream<? extends T>> hasElementWithinFirst(
+			int count, @NotNull Matcher<? super T> matcher) {
+		return new StreamMatcher.ElementWithin<>(count, matcher);
+	}
+
+	// endregion
+
+	// region Matchers for Iterator<T>
+
+	/**
+	 * Matches an Iterator of which every element satisfies the given matcher. The Iterator is consumed in a single
+	 * pass, up to the first element that does not match, and no elements are kept
+	 *
+	 * @param matcher The matcher every element should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Iterator<? extends T>> eachIterated(
+			@NotNull Matcher<? super T> matcher) {
+		return new IteratorMatcher.EveryElement<>(matcher);
+	}
+
+	/**
+	 * Matches an Iterator of which no element satisfies the given matcher. The Iterator is consumed in a single pass,
+	 * up to the first element that matches, and no elements are kept
+	 *
+	 * @param matcher The matcher no element should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Iterator<? extends T>> noneIterated(
+			@NotNull Matcher<? super T> matcher) {
+		return new IteratorMatcher.NoElement<>(matcher);
+	}
+
+	/**
+	 * Matches an Iterator that yields the given number of elements. The Iterator is consumed in a single pass, up to
+	 * one element past the expected count, and no elements are kept
+	 *
+	 * @param count The expected number of elements
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the count is negative
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Iterator<?>> iteratesCount(long count) {
+		return new IteratorMatcher.Count(count);
+	}
+
+	/**
+	 * Matches a Supplier of a collection, such as a Stream that reads a file, by applying the given Iterator matcher
+	 * to the supplied collection. The collection is only referenced through the Iterator, so as long as the Supplier
+	 * creates a new collection, for instance by reading the file again, elements that have been visited are not
+	 * kept in memory
+	 *
+	 * @param matcher The matcher to apply to an Iterator over the supplied collection
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Supplier<? extends Traversable<? extends T>>> whenSupplied(
+			@NotNull Matcher<? super Iterator<? extends T>> matcher) {
+		return new SupplierMatcher.Iterated<>(matcher);
+	}
+
+	/**
+	 * Matches a lazy pipeline that pulls at most the given number of elements from its source. The pipeline is given
+	 * as a function that builds it on top of an Iterator, for example {@code it -> Stream.ofAll(it).take(3)}. The
+	 * matcher passes an Iterator over the given source that counts the elements pulled, and consumes the result of
+	 * the pipeline if it is a collection, Iterator or Value. Once more elements are pulled than allowed, the source
+	 * aborts the pipeline, so an infinite source is safe to use
+	 *
+	 * @param count  The maximum number of elements the pipeline may pull
+	 * @param source The elements to feed to the pipeline
+	 * @param <T>    The type of element of the source
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the count is negative
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Function<? super Iterator<T>, ?>> evaluatesAtMost(
+			long count, @NotNull Iterable<? extends T> source) {
+		return new PipelineMatcher.EvaluatesAtMost<>(count, source);
+	}
+
+	// endregion
+
+	// region Matchers for Set<T> and Seq<T>
+
+	/**
+	 * Matches a Set, Seq or other collection that contains exactly the given elements, in any order. Unlike
+	 * Hamcrest's {@code containsInAnyOrder}, this takes time proportional to the number of elements: a Set is checked
+	 * by looking up each expected element, any other collection in a single pass against a hash index of the expected
+	 * elements. Elements are therefore compared using {@code equals} and {@code hashCode}, not the global
+	 * {@link Equivalence}
+	 *
+	 * @param elements The expected elements
+	 * @param <T>      The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Traversable<? extends T>> containsExactlyInAnyOrder(
+			@NotNull T... elements) {
+		return new TraversableMatcher.ContainsExactlyInAnyOrder<>(elements.clone());
+	}
+
+	/**
+	 * Matches a Set, Seq or other collection whose elements satisfy the given matchers, in any order, with one
+	 * element for every matcher. If an element satisfies several matchers, the pairing is rearranged as needed, so
+	 * the collection matches whenever some pairing of elements and matchers exists
+	 *
+	 * @param matchers The matchers the elements should satisfy
+	 * @param <T>      The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Traversable<? extends T>> containsExactlyInAnyOrder(
+			@NotNull Matcher<? super T>... matchers) {
+		return new TraversableMatcher.ContainsMatchingInAnyOrder<>(matchers.clone());
+	}
+
+	// endregion
+
+	// region Matchers for Map<K,V>
+
+	/**
+	 * Matches a Map that contains the given key
+	 *
+	 * @param key The expected key
+	 * @param <K> The type of key
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K> TypeSafeDiagnosingMatcher<Map<K, ?>> containsKey(@NotNull K key) {
+		return new MapMatcher.ContainsKey<>(key);
+	}
+
+	/**
+	 * Matches a Map that maps the given key to the given value. Values are compared using the global
+	 * {@link Equivalence}
+	 *
+	 * @param key   The expected key
+	 * @param value The value the key should be mapped to
+	 * @param <K>   The type of key
+	 * @param <V>   The type of value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K, V> TypeSafeDiagnosingMatcher<Map<K, V>> containsEntry(@NotNull K key, @NotNull V value) {
+		return new MapMatcher.ContainsEntry<>(key, value);
+	}
+
+	/**
+	 * Matches a Map that maps the given key to a value satisfying the given matcher
+	 *
+	 * @param key     The expected key
+	 * @param matcher The matcher the value should satisfy
+	 * @param <K>     The type of key
+	 * @param <V>     The type of value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K, V> TypeSafeDiagnosingMatcher<Map<K, V>> containsEntry(
+			@NotNull K key, @NotNull Matcher<V> matcher) {
+		return new MapMatcher.ContainsEntryMatching<>(key, matcher);
+	}
+
+	/**
+	 * Matches a Map that contains all entries of the given Map, and possibly others. Each expected key is looked up
+	 * directly, and values are compared using the global {@link Equivalence}
+	 *
+	 * @param entries The expected entries
+	 * @param <K>     The type of key
+	 * @param <V>     The type of value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K, V> TypeSafeDiagnosingMatcher<Map<K, V>> containsEntries(@NotNull Map<K, V> entries) {
+		return new MapMatcher.ContainsEntries<>(entries);
+	}
+
+	// endregion
+
+	// region Matchers for SortedSet<T> and SortedMap<K,V>
+
+	/**
+	 * Matches a SortedSet whose first element is equal to the given value. The element is found without visiting the
+	 * others
+	 *
+	 * @param element The expected first element
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<SortedSet<T>> hasFirstElement(@NotNull T element) {
+		return new SortedMatcher.EdgeIs<>(SortedMatcher.Ordering.elements(), element, false);
+	}
+
+	/**
+	 * Matches a SortedSet whose last element is equal to the given value. The element is found without visiting the
+	 * others
+	 *
+	 * @param element The expected last element
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<SortedSet<T>> hasLastElement(@NotNull T element) {
+		return new SortedMatcher.EdgeIs<>(SortedMatcher.Ordering.elements(), element, true);
+	}
+
+	/**
+	 * Matches a SortedSet of which every element lies in the range [from, to). Only the first and last element are
+	 * compared to the bounds
+	 *
+	 * @param from The inclusive lower bound
+	 * @param to   The exclusive upper bound
+	 * @param <T>  The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<SortedSet<T>> hasElementsInRange(@NotNull T from, @NotNull T to) {
+		return new SortedMatcher.WithinRange<>(SortedMatcher.Ordering.elements(), from, to);
+	}
+
+	/**
+	 * Matches a SortedSet without any element in the range [from, to). If the first and last element and the lower
+	 * bound do not decide the match, the elements before the range are visited in order, which takes linear time in
+	 * the worst case
+	 *
+	 * @param from The inclusive lower bound
+	 * @param to   The exclusive upper bound
+	 * @param <T>  The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<SortedSet<T>> hasNoElementsBetween(@NotNull T from, @NotNull T to) {
+		return new SortedMatcher.NoneBetween<>(SortedMatcher.Ordering.elements(), from, to);
+	}
+
+	/**
+	 * Matches a SortedMap whose first key is equal to the given value. The key is found without visiting the
+	 * others
+	 *
+	 * @param key The expected first key
+	 * @param <K> The type of key
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K> TypeSafeDiagnosingMatcher<SortedMap<K, ?>> hasFirstKey(@NotNull K key) {
+		return new SortedMatcher.EdgeIs<>(SortedMatcher.Ordering.keys(), key, false);
+	}
+
+	/**
+	 * Matches a SortedMap whose last key is equal to the given value. The key is found without visiting the
+	 * others
+	 *
+	 * @param key The expected last key
+	 * @param <K> The type of key
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K> TypeSafeDiagnosingMatcher<SortedMap<K, ?>> hasLastKey(@NotNull K key) {
+		return new SortedMatcher.EdgeIs<>(SortedMatcher.Ordering.keys(), key, true);
+	}
+
+	/**
+	 * Matches a SortedMap of which every key lies in the range [from, to). Only the first and last key are compared
+	 * to the bounds
+	 *
+	 * @param from The inclusive lower bound
+	 * @param to   The exclusive upper bound
+	 * @param <K>  The type of key
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K> TypeSafeDiagnosingMatcher<SortedMap<K, ?>> hasKeysInRange(@NotNull K from, @NotNull K to) {
+		return new SortedMatcher.WithinRange<>(SortedMatcher.Ordering.keys(), from, to);
+	}
+
+	/**
+	 * Matches a SortedMap without any key in the range [from, to). If the first and last key and the lower bound do
+	 * not decide the match, the keys before the range are visited in order, which takes linear time in the worst case
+	 *
+	 * @param from The inclusive lower bound
+	 * @param to   The exclusive upper bound
+	 * @param <K>  The type of key
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K> TypeSafeDiagnosingMatcher<SortedMap<K, ?>> hasNoKeysBetween(@NotNull K from, @NotNull K to) {
+		return new SortedMatcher.NoneBetween<>(SortedMatcher.Ordering.keys(), from, to);
+	}
+
+	// endregion
+
+	// region Matchers for Multimap<K,V>
+
+	/**
+	 * Matches a Multimap that has the given number of values for the given key. A key that is not in the Multimap has
+	 * zero values
+	 *
+	 * @param key   The key to look up
+	 * @param count The expected number of values
+	 * @param <K>   The type of key
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K> TypeSafeDiagnosingMatcher<Multimap<K, ?>> hasValueCountFor(@NotNull K key, int count) {
+		return new MultimapMatcher.ValueCount<>(key, count);
+	}
+
+	/**
+	 * Matches a Multimap that has the given value for the given key. Values are compared using the global
+	 * {@link Equivalence}
+	 *
+	 * @param key   The key to look up
+	 * @param value The value the key should have
+	 * @param <K>   The type of key
+	 * @param <V>   The type of value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K, V> TypeSafeDiagnosingMatcher<Multimap<K, V>> containsValueFor(@NotNull K key, @NotNull V value) {
+		return new MultimapMatcher.ContainsValue<>(key, value);
+	}
+
+	/**
+	 * Matches a Multimap whose values for the given key satisfy the given matcher. The matcher is applied to the
+	 * collection that holds the values in the Multimap, so collection matchers such as
+	 * {@link #containsExactlyInAnyOrder(Object[])} can be used
+	 *
+	 * @param key     The key to look up
+	 * @param matcher The matcher the values should satisfy
+	 * @param <K>     The type of key
+	 * @param <V>     The type of value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <K, V> TypeSafeDiagnosingMatcher<Multimap<K, V>> hasValuesFor(
+			@NotNull K key, @NotNull Matcher<? super Traversable<V>> matcher) {
+		return new MultimapMatcher.ValuesMatching<>(key, matcher);
+	}
+
+	// endregion
+
+	// region Matchers for Queue<T> and PriorityQueue<T>
+
+	/**
+	 * Matches a Queue whose head, the element it dequeues first, satisfies the given matcher
+	 *
+	 * @param matcher The matcher the head should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Queue<? extends T>> hasQueueHead(@NotNull Matcher<? super T> matcher) {
+		return new QueueMatcher.Head<>(Queue.class, "queue", matcher);
+	}
+
+	/**
+	 * Matches a Queue that dequeues exactly the given elements, in first-in-first-out order. The Queue is walked with
+	 * its iterator, without dequeuing or copying it
+	 *
+	 * @param elements The expected elements
+	 * @param <T>      The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Queue<? extends T>> dequeuesInOrder(@NotNull T... elements) {
+		return new QueueMatcher.DequeuesInOrder<>(Queue.class, "queue", elements.clone());
+	}
+
+	/**
+	 * Matches a PriorityQueue whose head, the element with the highest priority, satisfies the given matcher
+	 *
+	 * @param matcher The matcher the head should satisfy
+	 * @param <T>     The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<PriorityQueue<? extends T>> hasPriorityQueueHead(
+			@NotNull Matcher<? super T> matcher) {
+		return new QueueMatcher.Head<>(PriorityQueue.class, "priority queue", matcher);
+	}
+
+	/**
+	 * Matches a PriorityQueue that dequeues exactly the given elements, in the given order. The PriorityQueue is walked
+	 * with its iterator, taking logarithmic time per element
+	 *
+	 * @param elements The expected elements, in order of priority
+	 * @param <T>      The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@SafeVarargs
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<PriorityQueue<? extends T>> dequeuesInPriorityOrder(
+			@NotNull T... elements) {
+		return new QueueMatcher.DequeuesInOrder<>(PriorityQueue.class, "priority queue", elements.clone());
+	}
+
+	/**
+	 * Matches a PriorityQueue that dequeues its elements in the order of the given Comparator. The PriorityQueue is
+	 * walked with its iterator, taking logarithmic time per element, and only two elements are referenced at a time
+	 *
+	 * @param comparator The Comparator the elements should be ordered by
+	 * @param <T>        The type of element
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<PriorityQueue<? extends T>> isInPriorityOrder(
+			@NotNull Comparator<? super T> comparator) {
+		return new QueueMatcher.OrderedBy<>(PriorityQueue.class, "priority queue", comparator);
+	}
+
+	// endregion
+
+	// region Matchers for Tree<T>
+
+	/**
+	 * Matches a Tree of which the value of every node satisfies the given matcher. Nodes are visited in level order,
+	 * without recursion
+	 *
+	 * @param matcher The matcher every value should satisfy
+	 * @param <T>     The type of value
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Tree<? extends T>> everyNode(@NotNull Matcher<? super T> matcher) {
+		return new TreeMatcher.EveryNode<>(matcher);
+	}
+
+	/**
+	 * Matches a Tree with a node whose value satisfies the given matcher, at most the given number of levels below the
+	 * root. The root has depth 0, and deeper nodes are never visited
+	 *
+	 * @param depth   The maximum depth of the node
+	 * @param matcher The matcher the value should satisfy
+	 * @param <T>     The type of value
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If the depth is negative
+	 */
+	@NotNull
+	public static <T> TypeSafeDiagnosingMatcher<Tree<? extends T>> hasNodeWithinDepth(
+			int depth, @NotNull Matcher<? super T> matcher) {
+		return new TreeMatcher.NodeWithinDepth<>(depth, matcher);
+	}
+
+	/**
+	 * Matches a Tree with the given number of levels. An empty Tree has height 0, and a Tree with only a root has
+	 * height 1
+	 *
+	 * @param height The expected height
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Tree<?>> hasTreeHeight(int height) {
+		return new TreeMatcher.HasHeight(height);
+	}
+
+	/**
+	 * Matches a Tree with the given number of nodes
+	 *
+	 * @param size The expected number of nodes
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<Tree<?>> hasTreeSize(int size) {
+		return new TreeMatcher.HasSize(size);
+	}
+
+	// endregion
+
+	// region Matchers for CharSeq
+
+	/**
+	 * Matches a CharSeq that contains the given characters. The CharSeq is searched without converting it to a String
+	 *
+	 * @param substring The characters that should occur in the CharSeq
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<CharSeq> charSeqContains(@NotNull CharSequence substring) {
+		return new CharSeqMatcher.ContainsSubstring(substring.toString());
+	}
+
+	/**
+	 * Matches a CharSeq that starts with the given characters
+	 *
+	 * @param prefix The characters the CharSeq should start with
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<CharSeq> charSeqStartsWith(@NotNull CharSequence prefix) {
+		return new CharSeqMatcher.Affix(prefix.toString(), false);
+	}
+
+	/**
+	 * Matches a CharSeq that ends with the given characters
+	 *
+	 * @param suffix The characters the CharSeq should end with
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<CharSeq> charSeqEndsWith(@NotNull CharSequence suffix) {
+		return new CharSeqMatcher.Affix(suffix.toString(), true);
+	}
+
+	/**
+	 * Matches a CharSeq that matches the given pattern in its entirety. The pattern is applied to the CharSeq directly,
+	 * without converting it to a String
+	 *
+	 * @param pattern The pattern the CharSeq should match
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<CharSeq> charSeqMatches(@NotNull Pattern pattern) {
+		return new CharSeqMatcher.MatchesPattern(pattern, false);
+	}
+
+	/**
+	 * Matches a CharSeq that contains a match for the given pattern. The pattern is applied to the CharSeq directly,
+	 * without converting it to a String
+	 *
+	 * @param pattern The pattern that should be found in the CharSeq
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<CharSeq> charSeqContainsPattern(@NotNull Pattern pattern) {
+		return new CharSeqMatcher.MatchesPattern(pattern, true);
+	}
+
+	// endregion
+
+	// region Matchers for BitSet
+
+	/**
+	 * Matches a BitSet in which all of the given bits are set. Only the given bits are looked up, the elements of the
+	 * BitSet are never iterated
+	 *
+	 * @param bits The bits that should be set
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If any of the bits is negative
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<BitSet<Integer>> bitSetContainsAll(@NotNull int... bits) {
+		return new BitSetMatcher.ContainsAll(BitSetMatcher.toBits(bits));
+	}
+
+	/**
+	 * Matches a BitSet in which all bits set in the given Java BitSet are set. Only the given bits are looked up, the
+	 * elements of the BitSet are never iterated
+	 *
+	 * @param bits The bits that should be set. The Java BitSet is copied
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<BitSet<Integer>> bitSetContainsAll(@NotNull java.util.BitSet bits) {
+		return new BitSetMatcher.ContainsAll((java.util.BitSet) bits.clone());
+	}
+
+	/**
+	 * Matches a BitSet in which none of the given bits are set. Only the given bits are looked up, the elements of the
+	 * BitSet are never iterated
+	 *
+	 * @param bits The bits that should not be set
+	 * @return A Hamcrest matcher
+	 * @throws IllegalArgumentException If any of the bits is negative
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<BitSet<Integer>> bitSetDisjointFrom(@NotNull int... bits) {
+		return new BitSetMatcher.DisjointFrom(BitSetMatcher.toBits(bits));
+	}
+
+	/**
+	 * Matches a BitSet in which none of the bits set in the given Java BitSet are set. Only the given bits are looked
+	 * up, the elements of the BitSet are never iterated
+	 *
+	 * @param bits The bits that should not be set. The Java BitSet is copied
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<BitSet<Integer>> bitSetDisjointFrom(@NotNull java.util.BitSet bits) {
+		return new BitSetMatcher.DisjointFrom((java.util.BitSet) bits.clone());
+	}
+
+	/**
+	 * Matches a BitSet with the given number of bits set
+	 *
+	 * @param cardinality The expected number of bits
+	 * @return A Hamcrest matcher
+	 */
+	@NotNull
+	public static TypeSafeDiagnosingMatcher<BitSet<?>> hasCardinality(int cardinality) {
+		return new BitSetMatcher.Cardinality(cardinality);
 	}
 
 	// endregion
@@ -0,0 +1,545 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Lazy;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Defines the checks of {@link VavrMatchers} as plain predicates, for use outside of assertions, such as filtering
+ * a {@code Seq<Try<T>>}. The predicates have the same semantics as the corresponding matchers, including comparing
+ * values with the global {@link Equivalence}, but never describe anything, so they do no type checks and build no
+ * descriptions. Testing a value does not allocate: the parameterless predicates are shared constants, and the others
+ * capture their arguments once, when they are created.
+ * <p>
+ * Like their matchers without a timeout, the Future predicates wait for the Future to complete, and the Lazy
+ * predicates evaluate the Lazy. The overloads that take a timeout mirror {@code withTimeout} of the matchers: a Future
+ * or Lazy that does not complete in time fails the test. They wait through a Future, so testing a value with a timeout
+ * does allocate.
+ */
+public final class VavrPredicates {
+	private static final Predicate<Option<?>> DEFINED_OPTION = Option::isDefined;
+
+	private static final Predicate<Option<?>> EMPTY_OPTION = Option::isEmpty;
+
+	private static final Predicate<Either<?, ?>> LEFT = Either::isLeft;
+
+	private static final Predicate<Either<?, ?>> RIGHT = Either::isRight;
+
+	private static final Predicate<Try<?>> SUCCESS = Try::isSuccess;
+
+	private static final Predicate<Try<?>> FAILURE = Try::isFailure;
+
+	private static final Predicate<Future<?>> SUCCESSFUL_FUTURE = future -> future.await().isSuccess();
+
+	private static final Predicate<Future<?>> FAILED_FUTURE = future -> future.await().isFailure();
+
+	private static final Predicate<Lazy<?>> LAZY = lazy -> true;
+
+	VavrPredicates() {
+		throw new UnsupportedOperationException();
+	}
+
+	// region Predicates for Option<T>
+
+	/**
+	 * Tests whether an Option contains any value
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Option<?>> isSome() {
+		return DEFINED_OPTION;
+	}
+
+	/**
+	 * Tests whether an Option contains no value
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Option<?>> isNone() {
+		return EMPTY_OPTION;
+	}
+
+	/**
+	 * Tests whether an Option contains the given value
+	 *
+	 * @param value The value that should be contained in the Option
+	 * @param <T>   The type of value that should be in the Option
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Option<T>> isSome(@NotNull T value) {
+		return option -> option.isDefined() && Equivalence.test(null, value, option.get());
+	}
+
+	/**
+	 * Tests whether an Option contains a value matching the given predicate
+	 *
+	 * @param predicate The predicate the value should satisfy
+	 * @param <T>       The type of value that should be in the Option
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Option<T>> isSome(@NotNull Predicate<T> predicate) {
+		return option -> option.isDefined() && predicate.test(option.get());
+	}
+
+	// endregion
+
+	// region Predicates for Either<L,R>
+
+	/**
+	 * Tests whether an Either is a Left (error)
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Either<?, ?>> isLeft() {
+		return LEFT;
+	}
+
+	/**
+	 * Tests whether an Either is a Left (error), with the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of value in the Left
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Either<T, ?>> isLeft(@NotNull T expectedValue) {
+		return either -> either.isLeft() && Equivalence.test(null, expectedValue, either.getLeft());
+	}
+
+	/**
+	 * Tests whether an Either is a Left (error), with a value matching the given predicate
+	 *
+	 * @param predicate The predicate the value should satisfy
+	 * @param <T>       The type of value in the Left
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Either<T, ?>> isLeft(@NotNull Predicate<T> predicate) {
+		return either -> either.isLeft() && predicate.test(either.getLeft());
+	}
+
+	/**
+	 * Tests whether an Either is a Right (success)
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Either<?, ?>> isRight() {
+		return RIGHT;
+	}
+
+	/**
+	 * Tests whether an Either is a Right (success), with the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of value in the Right
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Either<?, T>> isRight(@NotNull T expectedValue) {
+		return either -> either.isRight() && Equivalence.test(null, expectedValue, either.get());
+	}
+
+	/**
+	 * Tests whether an Either is a Right (success), with a value matching the given predicate
+	 *
+	 * @param predicate The predicate the value should satisfy
+	 * @param <T>       The type of value in the Right
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Either<?, T>> isRight(@NotNull Predicate<T> predicate) {
+		return either -> either.isRight() && predicate.test(either.get());
+	}
+
+	// endregion
+
+	// region Predicates for Try<T>
+
+	/**
+	 * Tests whether a Try is a success
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Try<?>> isSuccess() {
+		return SUCCESS;
+	}
+
+	/**
+	 * Tests whether a Try is a success, containing the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of value in the Try
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Try<T>> isSuccess(@NotNull T expectedValue) {
+		return attempt -> attempt.isSuccess() && Equivalence.test(null, expectedValue, attempt.get());
+	}
+
+	/**
+	 * Tests whether a Try is a success, with a value matching the given predicate
+	 *
+	 * @param predicate The predicate the value should satisfy
+	 * @param <T>       The type of value in the Try
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Try<T>> isSuccess(@NotNull Predicate<T> predicate) {
+		return attempt -> attempt.isSuccess() && predicate.test(attempt.get());
+	}
+
+	/**
+	 * Tests whether a Try is a failure
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Try<?>> isFailure() {
+		return FAILURE;
+	}
+
+	/**
+	 * Tests whether a Try is a failure, with an exception of the given type
+	 *
+	 * @param expectedClass The class of the exception contained in the Try
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Try<?>> isFailure(@NotNull Class<? extends Throwable> expectedClass) {
+		return attempt -> attempt.isFailure() && expectedClass.isInstance(attempt.getCause());
+	}
+
+	/**
+	 * Tests whether a Try is a failure, with an exception matching the given predicate
+	 *
+	 * @param predicate The predicate the exception should satisfy
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Try<?>> isFailure(@NotNull Predicate<Throwable> predicate) {
+		return attempt -> attempt.isFailure() && predicate.test(attempt.getCause());
+	}
+
+	// endregion
+
+	// region Predicates for Future<T>
+
+	/**
+	 * Tests whether a Future succeeds
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFuture() {
+		return SUCCESSFUL_FUTURE;
+	}
+
+	/**
+	 * Tests whether a Future succeeds, with the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of value returned by the Future
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Future<T>> isFuture(@NotNull T expectedValue) {
+		return future -> {
+			Future<T> awaited = future.await();
+			return awaited.isSuccess() && Equivalence.test(null, expectedValue, awaited.get());
+		};
+	}
+
+	/**
+	 * Tests whether a Future succeeds, with a value matching the given predicate
+	 *
+	 * @param predicate The predicate the value should satisfy
+	 * @param <T>       The type of value returned by the Future
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Future<T>> isFuture(@NotNull Predicate<T> predicate) {
+		return future -> {
+			Future<T> awaited = future.await();
+			return awaited.isSuccess() && predicate.test(awaited.get());
+		};
+	}
+
+	/**
+	 * Tests whether a Future fails
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFailedFuture() {
+		return FAILED_FUTURE;
+	}
+
+	/**
+	 * Tests whether a Future fails, with an exception of the given type
+	 *
+	 * @param expectedException The class of the exception
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFailedFuture(@NotNull Class<? extends Throwable> expectedException) {
+		return future -> {
+			Future<?> awaited = future.await();
+			return awaited.isFailure() && expectedException.isInstance(awaited.getCause().getOrNull());
+		};
+	}
+
+	/**
+	 * Tests whether a Future fails, with an exception matching the given predicate
+	 *
+	 * @param predicate The predicate the exception should satisfy
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFailedFuture(@NotNull Predicate<Throwable> predicate) {
+		return future -> {
+			Future<?> awaited = future.await();
+			return awaited.isFailure() && awaited.getCause().isDefined() && predicate.test(awaited.getCause().get());
+		};
+	}
+
+	/**
+	 * Tests whether a Future succeeds within the given timeout
+	 *
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFuture(long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return future -> future.await(timeoutAmount, timeoutUnit).isSuccess();
+	}
+
+	/**
+	 * Tests whether a Future succeeds within the given timeout, with the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @param <T>           The type of value returned by the Future
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static <T> Predicate<Future<T>> isFuture(
+			@NotNull T expectedValue, long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return future -> {
+			Future<T> awaited = future.await(timeoutAmount, timeoutUnit);
+			return awaited.isSuccess() && Equivalence.test(null, expectedValue, awaited.get());
+		};
+	}
+
+	/**
+	 * Tests whether a Future succeeds within the given timeout, with a value matching the given predicate
+	 *
+	 * @param predicate     The predicate the value should satisfy
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @param <T>           The type of value returned by the Future
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static <T> Predicate<Future<T>> isFuture(
+			@NotNull Predicate<T> predicate, long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return future -> {
+			Future<T> awaited = future.await(timeoutAmount, timeoutUnit);
+			return awaited.isSuccess() && predicate.test(awaited.get());
+		};
+	}
+
+	/**
+	 * Tests whether a Future fails within the given timeout. A Future that does not complete in time does not pass
+	 *
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFailedFuture(long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return future -> failedInTime(future.await(timeoutAmount, timeoutUnit));
+	}
+
+	/**
+	 * Tests whether a Future fails within the given timeout, with an exception of the given type. A Future that does
+	 * not complete in time does not pass
+	 *
+	 * @param expectedException The class of the exception
+	 * @param timeoutAmount     The number of units to wait
+	 * @param timeoutUnit       The type of unit to wait
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFailedFuture(
+			@NotNull Class<? extends Throwable> expectedException, long timeoutAmount,
+			@NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return future -> {
+			Future<?> awaited = future.await(timeoutAmount, timeoutUnit);
+			return failedInTime(awaited) && expectedException.isInstance(awaited.getCause().getOrNull());
+		};
+	}
+
+	/**
+	 * Tests whether a Future fails within the given timeout, with an exception matching the given predicate. A Future
+	 * that does not complete in time does not pass
+	 *
+	 * @param predicate     The predicate the exception should satisfy
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static Predicate<Future<?>> isFailedFuture(
+			@NotNull Predicate<Throwable> predicate, long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return future -> {
+			Future<?> awaited = future.await(timeoutAmount, timeoutUnit);
+			return failedInTime(awaited) && predicate.test(awaited.getCause().get());
+		};
+	}
+
+	// endregion
+
+	// region Predicates for Lazy<T>
+
+	/**
+	 * Tests whether a value is a Lazy, which holds for every Lazy
+	 *
+	 * @return A predicate
+	 */
+	@NotNull
+	public static Predicate<Lazy<?>> isLazy() {
+		return LAZY;
+	}
+
+	/**
+	 * Tests whether a Lazy yields the given value
+	 *
+	 * @param expectedValue The expected value
+	 * @param <T>           The type of value yielded by the Lazy
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Lazy<T>> isLazy(@NotNull T expectedValue) {
+		return lazy -> Equivalence.test(null, expectedValue, lazy.get());
+	}
+
+	/**
+	 * Tests whether a Lazy yields a value matching the given predicate
+	 *
+	 * @param predicate The predicate the value should satisfy
+	 * @param <T>       The type of value yielded by the Lazy
+	 * @return A predicate
+	 */
+	@NotNull
+	public static <T> Predicate<Lazy<T>> isLazy(@NotNull Predicate<T> predicate) {
+		return lazy -> predicate.test(lazy.get());
+	}
+
+	/**
+	 * Tests whether a Lazy is evaluated within the given timeout
+	 *
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static Predicate<Lazy<?>> isLazy(long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return lazy -> evaluate(lazy, timeoutAmount, timeoutUnit).isSuccess();
+	}
+
+	/**
+	 * Tests whether a Lazy yields the given value within the given timeout
+	 *
+	 * @param expectedValue The expected value
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @param <T>           The type of value yielded by the Lazy
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static <T> Predicate<Lazy<T>> isLazy(
+			@NotNull T expectedValue, long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return lazy -> {
+			Future<T> evaluated = evaluate(lazy, timeoutAmount, timeoutUnit);
+			return evaluated.isSuccess() && Equivalence.test(null, expectedValue, evaluated.get());
+		};
+	}
+
+	/**
+	 * Tests whether a Lazy yields a value matching the given predicate within the given timeout
+	 *
+	 * @param predicate     The predicate the value should satisfy
+	 * @param timeoutAmount The number of units to wait
+	 * @param timeoutUnit   The type of unit to wait
+	 * @param <T>           The type of value yielded by the Lazy
+	 * @return A predicate
+	 * @throws IllegalArgumentException If the timeout is not positive
+	 */
+	@NotNull
+	public static <T> Predicate<Lazy<T>> isLazy(
+			@NotNull Predicate<T> predicate, long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		checkTimeout(timeoutAmount);
+		return lazy -> {
+			Future<T> evaluated = evaluate(lazy, timeoutAmount, timeoutUnit);
+			return evaluated.isSuccess() && predicate.test(evaluated.get());
+		};
+	}
+
+	// endregion
+
+	// region Internal
+
+	private static void checkTimeout(long timeoutAmount) {
+		if (timeoutAmount <= 0) {
+			throw new IllegalArgumentException("timeoutAmount must be positive, but is " + timeoutAmount);
+		}
+	}
+
+	private static boolean failedInTime(@NotNull Future<?> awaited) {
+		return awaited.isFailure() && awaited.getCause().filter(TimeoutException.class::isInstance).isEmpty();
+	}
+
+	@NotNull
+	private static <T> Future<T> evaluate(@NotNull Lazy<T> lazy, long timeoutAmount, @NotNull TimeUnit timeoutUnit) {
+		if (lazy.isEvaluated()) {
+			// Nothing left to wait for
+			return Future.successful(lazy.get());
+		}
+
+		return Future.of(lazy::get).await(timeoutAmount, timeoutUnit);
+	}
+
+	// endregion
+}
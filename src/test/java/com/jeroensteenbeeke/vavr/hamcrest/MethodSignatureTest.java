@@ -19,7 +19,9 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
 public class MethodSignatureTest {
 	@Test
 	void testStaticMethodAnnotationPresence() {
-		ArchRule allPublicStaticMethodsShouldNotReturnNull = methods().that().areStatic().and().arePublic().should()
+		// The values() and valueOf() methods of enums are generated by the compiler, and never return null
+		ArchRule allPublicStaticMethodsShouldNotReturnNull = methods().that().areStatic().and().arePublic()
+				.and().areDeclaredInClassesThat().areNotEnums().should()
 				.beAnnotatedWith(NotNull.class).andShould(haveNoNullableParameters())
 				.because("No method should return null, and have no argument that accepts null");
 
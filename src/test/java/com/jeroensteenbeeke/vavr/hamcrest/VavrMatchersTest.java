@@ -1,24 +1,62 @@
 package com.jeroensteenbeeke.vavr.hamcrest;
 
 import io.vavr.Lazy;
+import io.vavr.collection.Array;
+import io.vavr.collection.BitSet;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.PriorityQueue;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Tree;
+import io.vavr.collection.TreeMap;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
 import io.vavr.concurrent.Future;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.TypeSafeMatcher;
 import org.intellij.lang.annotations.Pattern;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.jeroensteenbeeke.vavr.hamcrest.VavrMatchers.*;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anything;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class VavrMatchersTest {
@@ -27,6 +65,196 @@ public class VavrMatchersTest {
 		assertThrows(UnsupportedOperationException.class, VavrMatchers::new);
 	}
 
+	@Test
+	void parameterlessMatchersShouldBeShared() {
+		assertThat(isSome(), sameInstance(isSome()));
+		assertThat(isDefinedOption(), sameInstance(isSome()));
+		assertThat(isNone(), sameInstance(isNone()));
+		assertThat(isEmptyOption(), sameInstance(isNone()));
+		assertThat(isLeft(), sameInstance(isLeft()));
+		assertThat(isRight(), sameInstance(isRight()));
+		assertThat(isSuccess(), sameInstance(isSuccess()));
+		assertThat(isFailure(), sameInstance(isFailure()));
+	}
+
+	@Test
+	void matchersShouldRejectOtherTypes() {
+		Object notAVavrType = "A";
+
+		assertThat(isSome().matches(notAVavrType), equalTo(false));
+		assertThat(isNone().matches(notAVavrType), equalTo(false));
+		assertThat(isSome("A").matches(notAVavrType), equalTo(false));
+		assertThat(isSome(equalTo("A")).matches(Either.right("A")), equalTo(false));
+		assertThat(isLeft().matches(Option.some("A")), equalTo(false));
+		assertThat(isRight("A").matches(Try.success("A")), equalTo(false));
+		assertThat(isSuccess().matches(Option.some("A")), equalTo(false));
+		assertThat(isFailure(IllegalStateException.class).matches(notAVavrType), equalTo(false));
+		assertThat(isFuture().matches(Lazy.of(() -> "A")), equalTo(false));
+		assertThat(isLazy().matches(Future.successful("A")), equalTo(false));
+		assertThat(isSome().matches(null), equalTo(false));
+	}
+
+	@Test
+	void renderedValuesShouldStayWithinBudget() {
+		RenderBudget previous = RenderBudget.setGlobal(RenderBudget.defaults().withMaxElements(3).withMaxDepth(2));
+		try {
+			List<Integer> numbers = List.range(0, 1000);
+			assertThat(Option.some(numbers), fails(isNone()).withMismatchDescription(
+					String.format("is an Option with a value equal to <List(0, 1, 2, ...)> (size 1000, hash 0x%08x)",
+							numbers.hashCode())));
+
+			List<List<List<Integer>>> nested = List.of(List.of(List.of(1)));
+			assertThat(Option.some(nested), fails(isNone()).withMismatchDescription(
+					String.format("is an Option with a value equal to <List(List(...))> (size 1, hash 0x%08x)",
+							nested.hashCode())));
+
+			RenderBudget.setGlobal(RenderBudget.defaults().withMaxCharacters(8));
+
+			assertThat(Either.right("ABCDEFGHIJ"), fails(isLeft()).withMismatchDescription(
+					String.format("is a right Either, with value \"ABCDEFGH...\" (length 10, hash 0x%08x)",
+							"ABCDEFGHIJ".hashCode())));
+
+			assertThat(Try.success(List.of("ABCDEFGHIJ")), fails(isFailure()).withMismatchDescription(
+					String.format("is a success, with value <List(ABC...)> (size 1, hash 0x%08x)",
+							List.of("ABCDEFGHIJ").hashCode())));
+		} finally {
+			RenderBudget.setGlobal(previous);
+		}
+
+		assertThat(Option.some(Stream.iterate(0, i -> i + 1)),
+				fails(isNone()).withMismatchDescription("is an Option with a value equal to <Stream(0, ?)>"));
+		assertThrows(IllegalArgumentException.class, () -> RenderBudget.defaults().withMaxElements(0));
+	}
+
+	@Test
+	void descriptionsShouldStreamToAppendable() {
+		TypeSafeDiagnosingMatcher<Option<Either<?, Integer>>> matcher = isSome(isRight(5));
+
+		StringBuilder builder = new StringBuilder();
+		new StreamingDescription(builder).describe(matcher);
+		assertThat(builder.toString(), equalTo(descriptionOf(matcher)));
+
+		StringWriter mismatch = new StringWriter();
+		new StreamingDescription(mismatch).describeMismatch(matcher, Option.some(Either.right(6)));
+		assertThat(mismatch.toString(),
+				equalTo("is an Option with value <Right(6)> not matching because is a right Either, with value <6>"));
+
+		StringWriter writer = new StringWriter();
+		StreamingDescription description = new StreamingDescription(writer, 4);
+		description.describe(isLeft("Error")).appendText(" / ");
+		description.describeMismatch(isNone(), Option.some("A"));
+		assertThat(writer.toString(),
+				equalTo("is a left Either, with value \"Error\" / is an Option with a value equal to \"A\""));
+
+		Appendable broken = new Appendable() {
+			@Override
+			public Appendable append(CharSequence csq) throws IOException {
+				throw new IOException("Disk full");
+			}
+
+			@Override
+			public Appendable append(CharSequence csq, int start, int end) throws IOException {
+				throw new IOException("Disk full");
+			}
+
+			@Override
+			public Appendable append(char c) throws IOException {
+				throw new IOException("Disk full");
+			}
+		};
+		assertThrows(UncheckedIOException.class, () -> new StreamingDescription(broken).describe(isSome()));
+		assertThrows(IllegalArgumentException.class, () -> new StreamingDescription(writer, 0));
+	}
+
+	@Test
+	void descriptionsShouldBeRenderedOnce() {
+		AtomicInteger renderings = new AtomicInteger();
+		Object expected = new Object() {
+			@Override
+			public String toString() {
+				return "Rendered " + renderings.incrementAndGet();
+			}
+		};
+
+		TypeSafeDiagnosingMatcher<Option<Object>> matcher = isSome(expected);
+		assertThat(descriptionOf(matcher), equalTo("is an Option with a value equal to <Rendered 1>"));
+		assertThat(descriptionOf(matcher), equalTo("is an Option with a value equal to <Rendered 1>"));
+
+		RenderBudget previous = RenderBudget.setGlobal(RenderBudget.defaults().withMaxCharacters(5));
+		try {
+			assertThat(descriptionOf(matcher), equalTo(String.format(
+					"is an Option with a value equal to <Rende...> (length 10, hash 0x%08x)", "Rendered 2".hashCode())));
+		} finally {
+			RenderBudget.setGlobal(previous);
+		}
+
+		TypeSafeDiagnosingMatcher<Future<Object>> timed = isFuture(expected).withTimeout(5, TimeUnit.SECONDS);
+		assertThat(descriptionOf(timed),
+				equalTo("is a Future, that completes within 5 seconds, that succeeds, with value <Rendered 3>"));
+		assertThat(descriptionOf(timed),
+				equalTo("is a Future, that completes within 5 seconds, that succeeds, with value <Rendered 3>"));
+
+		TypeSafeMatcher<Object> changing = new TypeSafeMatcher<Object>() {
+			@Override
+			protected boolean matchesSafely(Object item) {
+				return true;
+			}
+
+			@Override
+			public void describeTo(Description description) {
+				description.appendText(expected.toString());
+			}
+		};
+		TypeSafeDiagnosingMatcher<Lazy<Object>> inner = isLazy(changing).withTimeout(1, TimeUnit.SECONDS);
+		assertThat(descriptionOf(inner),
+				equalTo("is a Lazy, that completes within 1 seconds, which yields value matching Rendered 4"));
+		assertThat(descriptionOf(inner),
+				equalTo("is a Lazy, that completes within 1 seconds, which yields value matching Rendered 5"));
+	}
+
+	@Test
+	void failedMatchShouldBeExplainedStructurally() {
+		assertThat(MatchResult.explain(isSome("A"), Option.some("A")), isNone());
+
+		Try<String> failure = Try.failure(new IllegalStateException("Boom"));
+		MatchResult nested = MatchResult.explain(isSome(isRight(isSuccess())), Option.some(Either.right(failure)))
+				.get();
+		assertThat(nested.getPath(), equalTo(List.of("Some", "Right", "Failure")));
+		assertThat(nested.getKind(), equalTo(MatchResult.Kind.WRONG_VARIANT));
+		assertThat(nested.getExpected(), sameInstance(isSuccess()));
+		assertThat(nested.getActual(), sameInstance(failure));
+		assertThat(nested.toString(), equalTo("Some -> Right -> Failure: wrong variant, expected is a success, "
+				+ "but was <Failure(java.lang.IllegalStateException: Boom)>"));
+
+		MatchResult value = MatchResult.explain(isSome("A"), Option.some("B")).get();
+		assertThat(value.getKind(), equalTo(MatchResult.Kind.VALUE_MISMATCH));
+		assertThat(value.toString(), equalTo("Some: value mismatch, expected \"A\", but was \"B\""));
+
+		MatchResult timeout = MatchResult.explain(VavrMatchers.<String>isFuture().withTimeout(50, TimeUnit.MILLISECONDS),
+				Future.of(() -> {
+					Thread.sleep(1000L);
+					return "A";
+				})).get();
+		assertThat(timeout.getPath(), equalTo(List.of("Future")));
+		assertThat(timeout.getKind(), equalTo(MatchResult.Kind.TIMEOUT));
+
+		MatchResult element = MatchResult.explain(isFuture(containsInOrder(1, 2, 4)),
+				Future.successful(Vector.of(1, 2, 3))).get();
+		assertThat(element.getPath(), equalTo(List.of("Future", "Success", "Vector[2]")));
+		assertThat(element.toString(), equalTo("Future -> Success -> Vector[2]: value mismatch, expected <4>, "
+				+ "but was <3>"));
+		assertThat(MatchResult.explain(containsInOrder(1, 2), List.of(1, 2, 3)).map(MatchResult::getPath),
+				equalTo(Option.some(List.of("List"))));
+		assertThat(MatchResult.explain(hasLength(2), Stream.from(1)).map(MatchResult::getPath),
+				equalTo(Option.some(List.of("Stream"))));
+		assertThat(MatchResult.explain(hasLength(2), Array.of(1)).map(MatchResult::getPath),
+				equalTo(Option.some(List.of("Array"))));
+
+		MatchResult foreign = MatchResult.explain(equalTo("A"), "B").get();
+		assertThat(foreign.getPath(), equalTo(List.empty()));
+		assertThat(foreign.toString(), equalTo("value mismatch, expected \"A\", but was \"B\""));
+	}
+
 	@Test
 	void testOptionMatchers() {
 		assertThat(Option.none(), isNone());
@@ -380,6 +608,618 @@ public class VavrMatchersTest {
 	}
 
 
+	@Test
+	void primitiveMatchersShouldCompareUnboxed() {
+		assertThat(Option.some(5), isSomeInt(5));
+		assertThat(Option.some(5L), isDefinedOptionLong(5L));
+		assertThat(Option.some(Double.NaN), isSomeDouble(Double.NaN));
+		assertThat(Option.some(0.1 + 0.2), isSomeDouble(0.3, 1e-9));
+		assertThat(Option.some(0.1 + 0.2), fails(isSomeDouble(0.3)).withMismatchDescription(
+				"is an Option with a value equal to <0.30000000000000004>"));
+		assertThat(Option.some(4), isSomeInt("even", i -> i % 2 == 0));
+		assertThat(Option.some(3), fails(isSomeInt("even", i -> i % 2 == 0)).withMismatchDescription(
+				"is an Option with a value not matching \"even\", because the value is equal to <3>"));
+
+		assertThat(Either.left(7), isLeftInt(7));
+		assertThat(Either.left(7L), isLeftLong("positive", l -> l > 0));
+		assertThat(Either.right(2.5), isRightDouble(2.45, 0.1));
+		assertThat(Either.right(2.5), fails(isRightDouble(2.0, 0.1)).withMismatchDescription(
+				"is a right Either, with value <2.5>"));
+		assertThat(Either.left(2.5), fails(isRightDouble("positive", d -> d > 0)).withMismatchDescription(
+				"is a left Either, with value <2.5>"));
+
+		assertThat(Try.success(9L), isSuccessLong(9L));
+		assertThat(Try.success(9), isSuccessInt("odd", i -> i % 2 == 1));
+		assertThat(Try.success(9), fails(isSuccessInt(8)).withMismatchDescription("is a success, with value <9>"));
+		assertThat(Option.some((Integer) null), not(isSomeInt(5)));
+		assertThat(Option.some((Integer) null), not(isSomeInt("even", i -> i % 2 == 0)));
+		assertThat(Try.success((Long) null), not(isSuccessLong(5L)));
+		assertThat(Either.<Double, Object> left(null), not(isLeftDouble(2.5, 0.1)));
+
+		Option<Object> someObject = Option.some(5);
+		Option<Number> someNumber = Option.some(5);
+		Either<String, Object> rightObject = Either.right(5L);
+		Try<Comparable<Integer>> successComparable = Try.success(5);
+		assertThat(someObject, isSome(5));
+		assertThat(someNumber, isSome(5));
+		assertThat(rightObject, isRight(5L));
+		assertThat(successComparable, isSuccess(5));
+		assertThat(someNumber, isSomeInt(5));
+		assertThat(rightObject, isRightLong(5L));
+		assertThat(successComparable, isSuccessInt(5));
+		assertThat(someNumber, not(isSomeLong(5L)));
+		assertThat(Option.some('c'), isSome('c'));
+		assertThat(Option.<Object> some("5"), fails(isSomeInt(5)).withMismatchDescription(
+				"is an Option with a value equal to \"5\""));
+
+		assertThat(descriptionOf(isSomeDouble(1.0, 0.01)),
+				equalTo("is an Option with a value equal to <1.0> within <0.01>"));
+		assertThat(descriptionOf(isLeftInt("even", i -> i % 2 == 0)),
+				equalTo("is a left Either, with a value matching \"even\""));
+		assertThat(descriptionOf(isSuccessDouble("finite", Double::isFinite)),
+				equalTo("is a success, matching \"finite\""));
+		assertThat(MatchResult.explain(isSomeInt(5), Option.some(6)).map(MatchResult::getExpected),
+				equalTo(Option.some(5)));
+		assertThrows(IllegalArgumentException.class, () -> isSuccessDouble(1.0, -0.1));
+		assertThrows(IllegalArgumentException.class, () -> isSuccessDouble(1.0, Double.NaN));
+	}
+
+	@Test
+	void equivalenceShouldDecideEquality() {
+		AtomicInteger equalsCalls = new AtomicInteger();
+		Object expensive = new Object() {
+			@Override
+			public boolean equals(Object obj) {
+				equalsCalls.incrementAndGet();
+				return super.equals(obj);
+			}
+
+			@Override
+			public int hashCode() {
+				return 42;
+			}
+		};
+
+		assertThat(Option.some(expensive), isSome(expensive, Equivalence.identityFirst()));
+		assertThat(Either.left(expensive), isLeft(expensive, Equivalence.hashCodeFirst()));
+		assertThat(Option.<Object>some("different"), not(isSome(expensive, Equivalence.hashCodeFirst())));
+		assertThat(equalsCalls.get(), equalTo(0));
+		assertThat(Option.some(expensive), isSome(expensive));
+		assertThat(equalsCalls.get(), equalTo(1));
+
+		assertThat(Either.right("abc"), isRight("ABC", Equivalence.comparing(String.CASE_INSENSITIVE_ORDER)));
+		assertThat(Try.success(0.1 + 0.2), isSuccess(0.3, Equivalence.tolerance(1e-9)));
+		assertThat(Future.successful(10L), isFuture(10L, Equivalence.tolerance(0.5)).withTimeout(1, TimeUnit.SECONDS));
+		assertThat(Lazy.of(() -> "abc"), isLazy("a", Equivalence.<String>of(
+				(expected, actual) -> actual != null && actual.startsWith(expected))));
+		assertThat(Lazy.of(() -> "abc"), not(isLazy("b", Equivalence.<String>of(
+				(expected, actual) -> actual != null && actual.startsWith(expected)))));
+
+		Equivalence<Object> previous = Equivalence.setGlobal(Equivalence.of((expected, actual) -> true));
+		try {
+			assertThat(Option.some("A"), isSome("B"));
+			assertThat(Option.some("A"), not(isSome("B", Equivalence.equality())));
+		} finally {
+			Equivalence.setGlobal(previous);
+		}
+		assertThat(Option.some("A"), not(isSome("B")));
+		assertThat(Equivalence.global(), sameInstance(Equivalence.equality()));
+		assertThrows(IllegalArgumentException.class, () -> Equivalence.tolerance(-1.0));
+	}
+
+	@Test
+	void seqMatchersShouldStopAtFirstMismatch() {
+		assertThat(List.of(1, 2, 3), containsInOrder(1, 2, 3));
+		assertThat(Vector.of(1, 2, 3), containsInOrder(equalTo(1), lessThan(3), equalTo(3)));
+		assertThat(List.of(1, 2, 3), fails(containsInOrder(1, 4, 3)).withMismatchDescription(
+				"is a Seq with element <2> at index 1, where <4> was expected"));
+		assertThat(List.of(1, 2), fails(containsInOrder(1, 2, 3)).withMismatchDescription(
+				"is a Seq with only 2 elements"));
+		assertThat(List.of(1, 2, 3), fails(containsInOrder(equalTo(1), equalTo(2))).withMismatchDescription(
+				"is a Seq with more than 2 elements"));
+		assertThat(List.of(1, 2, 3), fails(containsInOrder(equalTo(1), equalTo(3), equalTo(3)))
+				.withMismatchDescription("is a Seq with element <2> at index 1 not matching because was <2>"));
+		assertThat(List.of(1, 2, 3), hasLength(3));
+		assertThat(List.of(1, 2, 3), fails(hasLength(2)).withMismatchDescription("is a Seq of length 3"));
+		assertThat(List.of(1, 2, 3), everyElement(lessThan(4)));
+		assertThat(List.of(1, 5, 3, 7), fails(everyElement(lessThan(4))).withMismatchDescription(
+				"is a Seq with element <5> at index 1 not matching because <5> was greater than <4>"));
+		assertThat(descriptionOf(containsInOrder(1, 2)), equalTo("is a Seq containing [<1>, <2>] in order"));
+
+		AtomicInteger forced = new AtomicInteger();
+		Stream<Integer> naturals = Stream.iterate(1, i -> {
+			forced.incrementAndGet();
+			return i + 1;
+		});
+
+		assertThat(naturals, hasPrefix(1, 2, 3));
+		assertThat(naturals, fails(hasPrefix(1, 3)).withMismatchDescription(
+				"is a Seq with element <2> at index 1, where <3> was expected"));
+		assertThat(naturals, fails(everyElement(lessThan(5))).withMismatchDescription(
+				"is a Seq with element <5> at index 4 not matching because <5> was equal to <5>"));
+		assertThat(naturals, fails(hasLength(10)).withMismatchDescription("is a Seq of length greater than 10"));
+		assertThat(forced.get(), lessThan(12));
+	}
+
+	@Test
+	void anyOrderMatchersShouldUseHashing() {
+		Integer[] range = Stream.range(0, 100_000).toJavaArray(Integer[]::new);
+		assertThat(HashSet.range(0, 100_000), containsExactlyInAnyOrder(range));
+		assertThat(List.of(range).reverse(), containsExactlyInAnyOrder(range));
+		assertThat(HashSet.of(1, 2, 3), containsExactlyInAnyOrder(3, 1, 2));
+		assertThat(HashSet.of(1, 2), fails(containsExactlyInAnyOrder(1, 1)).withMismatchDescription(
+				"is a HashSet of size 2"));
+		assertThat(HashSet.of(1, 2), fails(containsExactlyInAnyOrder(1, 3)).withMismatchDescription(
+				"is a HashSet without element <3>"));
+		assertThat(List.of(2, 1, 2), containsExactlyInAnyOrder(1, 2, 2));
+		assertThat(List.of(2, 1, 2), fails(containsExactlyInAnyOrder(1, 2, 3)).withMismatchDescription(
+				"is a List with unexpected element <2>"));
+		assertThat(List.of(2, 1), fails(containsExactlyInAnyOrder(1, 2, 3)).withMismatchDescription(
+				"is a List without element <3>"));
+		assertThat(Stream.from(1), fails(containsExactlyInAnyOrder(2, 1)).withMismatchDescription(
+				"is a Stream with unexpected element <3>"));
+		assertThat(Array.of(1, 4), fails(containsExactlyInAnyOrder(1, 3)).withMismatchDescription(
+				"is an Array with unexpected element <4>"));
+
+		assertThat(List.of(3, 10), containsExactlyInAnyOrder(greaterThan(5), lessThan(5)));
+		assertThat(List.of(3, 4), fails(containsExactlyInAnyOrder(greaterThan(5), lessThan(5)))
+				.withMismatchDescription("is a List with element <4> not matching any of the remaining matchers"));
+		assertThat(List.of(3), fails(containsExactlyInAnyOrder(greaterThan(5), lessThan(5)))
+				.withMismatchDescription("is a List without an element matching a value greater than <5>"));
+		assertThat(List.of(1, 2), containsExactlyInAnyOrder(anything(), equalTo(1)));
+		assertThat(List.of(1, 2, 3), containsExactlyInAnyOrder(anything(), lessThan(3), equalTo(1)));
+		assertThat(Stream.from(1), fails(containsExactlyInAnyOrder(anything(), equalTo(1)))
+				.withMismatchDescription("is a Stream with element <3> not matching any of the remaining matchers"));
+		assertThat(descriptionOf(containsExactlyInAnyOrder(1, 2)),
+				equalTo("is a collection containing [<1>, <2>] in any order"));
+	}
+
+	@Test
+	void mapMatchersShouldLookUpKeys() {
+		HashMap<String, Integer> routes = HashMap.of("a", 1, "b", 2, "c", 3);
+
+		assertThat(routes, containsKey("a"));
+		assertThat(routes, fails(containsKey("d")).withMismatchDescription("is a HashMap without key \"d\""));
+		assertThat(routes, containsEntry("b", 2));
+		assertThat(routes, fails(containsEntry("b", 3)).withMismatchDescription(
+				"is a HashMap with value <2> for key \"b\""));
+		assertThat(routes, containsEntry("c", greaterThan(2)));
+		assertThat(routes, fails(containsEntry("c", lessThan(2))).withMismatchDescription(
+				"is a HashMap whose value for key \"c\" is an Option with value <3> not matching because <3> was " +
+						"greater than <2>"));
+		assertThat(routes, fails(containsEntry("d", lessThan(2))).withMismatchDescription(
+				"is a HashMap whose value for key \"d\" is an empty Option"));
+		assertThat(TreeMap.of("a", 1, "b", 2), containsEntries(HashMap.of("b", 2)));
+		assertThat(TreeMap.of("a", 1, "b", 2), fails(containsEntries(HashMap.of("a", 1, "c", 3)))
+				.withMismatchDescription("is a TreeMap without key \"c\""));
+		assertThat(descriptionOf(containsEntry("c", lessThan(2))),
+				equalTo("is a Map whose value for key \"c\" is an Option with a value matching a value less than <2>"));
+		assertThat(MatchResult.explain(containsEntry("c", lessThan(2)), routes).map(MatchResult::getPath),
+				equalTo(Option.some(List.of("HashMap", "Some"))));
+	}
+
+	@Test
+	void sortedMatchersShouldUseOrdering() {
+		TreeSet<Integer> readings = TreeSet.of(10, 20, 30, 40);
+		TreeMap<Long, String> series = TreeMap.of(100L, "a", 200L, "b", 300L, "c");
+
+		assertThat(readings, hasFirstElement(10));
+		assertThat(readings, hasLastElement(40));
+		assertThat(readings, fails(hasLastElement(30)).withMismatchDescription(
+				"is a TreeSet whose last element is <40>"));
+		assertThat(TreeSet.<Integer> empty(), fails(hasFirstElement(10)).withMismatchDescription(
+				"is an empty TreeSet"));
+		assertThat(readings, hasElementsInRange(10, 41));
+		assertThat(readings, fails(hasElementsInRange(10, 40)).withMismatchDescription(
+				"is a TreeSet with element <40> outside [<10>, <40>)"));
+		assertThat(readings, hasNoElementsBetween(21, 30));
+		assertThat(readings, hasNoElementsBetween(41, 50));
+		assertThat(readings, fails(hasNoElementsBetween(15, 35)).withMismatchDescription(
+				"is a TreeSet with element <20> in [<15>, <35>)"));
+		assertThat(readings, fails(hasNoElementsBetween(20, 21)).withMismatchDescription(
+				"is a TreeSet with element <20> in [<20>, <21>)"));
+
+		assertThat(series, hasFirstKey(100L));
+		assertThat(series, hasLastKey(300L));
+		assertThat(series, hasKeysInRange(100L, 301L));
+		assertThat(series, fails(hasKeysInRange(150L, 400L)).withMismatchDescription(
+				"is a TreeMap with key <100L> outside [<150L>, <400L>)"));
+		assertThat(series, hasNoKeysBetween(101L, 200L));
+		assertThat(series, fails(hasNoKeysBetween(101L, 201L)).withMismatchDescription(
+				"is a TreeMap with key <200L> in [<101L>, <201L>)"));
+		assertThat(descriptionOf(hasNoKeysBetween(1L, 2L)), equalTo("is a sorted map without keys in [<1L>, <2L>)"));
+	}
+
+	@Test
+	void multimapMatchersShouldLookAtOneKey() {
+		Multimap<String, Integer> groups = HashMultimap.withSet().of("even", 2, "even", 4, "odd", 1);
+
+		assertThat(groups, hasValueCountFor("even", 2));
+		assertThat(groups, hasValueCountFor("none", 0));
+		assertThat(groups, fails(hasValueCountFor("odd", 2)).withMismatchDescription(
+				"is a HashMultimap[HashSet] with 1 value for key \"odd\""));
+		assertThat(groups, containsValueFor("even", 4));
+		assertThat(groups, fails(containsValueFor("odd", 3)).withMismatchDescription(
+				"is a HashMultimap[HashSet] without value <3> for key \"odd\""));
+		assertThat(groups, fails(containsValueFor("none", 3)).withMismatchDescription(
+				"is a HashMultimap[HashSet] without key \"none\""));
+		assertThat(groups, hasValuesFor("even", containsExactlyInAnyOrder(4, 2)));
+		assertThat(groups, fails(hasValuesFor("even", containsExactlyInAnyOrder(2))).withMismatchDescription(
+				"is a HashMultimap[HashSet] whose values for key \"even\" do not match because " +
+						"is a HashSet of size 2"));
+		assertThat(descriptionOf(hasValueCountFor("odd", 1)), equalTo("is a Multimap with 1 value for key \"odd\""));
+
+		Equivalence<Object> previous = Equivalence.setGlobal(Equivalence.of(
+				(expected, actual) -> actual != null && expected.toString().equals(actual.toString())));
+		try {
+			Multimap<String, Object> mixed = HashMultimap.withSet().of("even", 2L);
+
+			assertThat(mixed, containsValueFor("even", 2));
+			assertThat(HashMap.of("even", 2L), containsEntry("even", 2));
+		} finally {
+			Equivalence.setGlobal(previous);
+		}
+	}
+
+	@Test
+	void streamMatchersShouldNotPullBeyondTheirBound() {
+		AtomicInteger pulled = new AtomicInteger();
+		Stream<Integer> numbers = Stream.continually(pulled::incrementAndGet);
+
+		assertThat(numbers, hasStreamPrefix(1, 2, 3));
+		assertThat(pulled.get(), equalTo(3));
+		assertThat(numbers, fails(hasStreamPrefix(1, 2, 3, 5)).withMismatchDescription(
+				"is a Stream with element <4> at index 3, where <5> was expected"));
+		assertThat(pulled.get(), equalTo(4));
+		assertThat(numbers, hasFirstElementsMatching(4, lessThan(5)));
+		assertThat(numbers, fails(hasFirstElementsMatching(6, lessThan(6))).withMismatchDescription(
+				"is a Stream with element <6> at index 5 not matching because <6> was equal to <6>"));
+		assertThat(pulled.get(), equalTo(6));
+		assertThat(numbers, hasElementWithinFirst(10, greaterThan(7)));
+		assertThat(pulled.get(), equalTo(8));
+		assertThat(numbers, fails(hasElementWithinFirst(3, greaterThan(7))).withMismatchDescription(
+				"is a Stream without an element matching a value greater than <7> among its first 3 elements " +
+						"<[1, 2, 3]>"));
+		assertThat(Stream.of(1, 2), fails(hasFirstElementsMatching(3, lessThan(5))).withMismatchDescription(
+				"is a Stream with only 2 elements"));
+		assertThat(pulled.get(), equalTo(8));
+		assertThrows(IllegalArgumentException.class, () -> hasElementWithinFirst(-1, greaterThan(7)));
+	}
+
+	@Test
+	void iteratorMatchersShouldConsumeOnce() {
+		AtomicInteger pulled = new AtomicInteger();
+		Iterator<Integer> numbers = Iterator.continually(pulled::incrementAndGet).take(10);
+
+		assertThat(numbers, fails(eachIterated(lessThan(4))).withMismatchDescription(
+				"is an Iterator with element <4> at index 3 not matching because <4> was equal to <4>"));
+		assertThat(pulled.get(), equalTo(4));
+		assertThat(numbers, noneIterated(lessThan(5)));
+		assertThat(pulled.get(), equalTo(10));
+		assertThat(Iterator.range(0, 10), eachIterated(lessThan(10)));
+		assertThat(Iterator.range(0, 10), fails(noneIterated(greaterThan(6))).withMismatchDescription(
+				"is an Iterator with element <7> at index 7 matching a value greater than <6>"));
+		assertThat(Iterator.range(0, 10), iteratesCount(10));
+		assertThat(Iterator.range(0, 10), fails(iteratesCount(12)).withMismatchDescription(
+				"is an Iterator of 10 elements"));
+		assertThat(Iterator.range(0, 10), fails(iteratesCount(5)).withMismatchDescription(
+				"is an Iterator of more than 5 elements"));
+
+		AtomicInteger supplied = new AtomicInteger();
+		Supplier<Stream<Integer>> records = () -> {
+			supplied.incrementAndGet();
+			return Stream.range(0, 100_000);
+		};
+
+		assertThat(records, whenSupplied(eachIterated(lessThan(100_000))));
+		assertThat(records, whenSupplied(iteratesCount(100_000)));
+		assertThat(records, fails(whenSupplied(noneIterated(equalTo(5)))).withMismatchDescription(
+				"is a Supplier, with elements not matching because is an Iterator with element <5> at index 5 " +
+						"matching <5>"));
+		assertThat(supplied.get(), equalTo(3));
+	}
+
+	@Test
+	void pipelineMatcherShouldCountPulls() {
+		Stream<Integer> naturals = Stream.iterate(1, i -> i + 1);
+		Function<Iterator<Integer>, Stream<Integer>> firstEven = it -> Stream.ofAll(it).filter(i -> i % 2 == 0)
+				.take(1);
+		Function<Iterator<Integer>, Integer> largest = it -> it.max().getOrElse(0);
+
+		assertThat(firstEven, evaluatesAtMost(2, naturals));
+		assertThat(firstEven, fails(evaluatesAtMost(1, naturals)).withMismatchDescription(
+				"is a pipeline that evaluates more than 1 element of its source"));
+		assertThat(largest, evaluatesAtMost(10, List.range(0, 10)));
+		assertThat(largest, fails(evaluatesAtMost(1_000, naturals)).withMismatchDescription(
+				"is a pipeline that evaluates more than 1000 elements of its source"));
+		assertThat(MatchResult.explain(evaluatesAtMost(1_000, naturals), largest).map(MatchResult::getActual),
+				equalTo(Option.some(1_001L)));
+		assertThat(descriptionOf(evaluatesAtMost(3, naturals)),
+				equalTo("is a pipeline that evaluates at most 3 elements of its source"));
+	}
+
+	@Test
+	void treeMatchersShouldNotRecurse() {
+		Tree.Node<Integer> chain = Tree.of(200_000);
+		for (int i = 199_999; i > 0; i--) {
+			chain = Tree.of(i, chain);
+		}
+		Tree<Integer> tree = Tree.of(1, Tree.of(2, Tree.of(4), Tree.of(5)), Tree.of(3, Tree.of(6)));
+
+		assertThat(chain, everyNode(greaterThan(0)));
+		assertThat(chain, fails(everyNode(lessThan(150_000))).withMismatchDescription(
+				"is a Tree with node <150000> at depth 149999 not matching because <150000> was equal to <150000>"));
+		assertThat(chain, hasNodeWithinDepth(10, equalTo(11)));
+		assertThat(chain, fails(hasNodeWithinDepth(10, equalTo(12))).withMismatchDescription(
+				"is a Tree without a node matching <12> at depth 10 or less"));
+		assertThat(MatchResult.explain(hasNodeWithinDepth(3, equalTo(-1)), chain).map(MatchResult::getActual),
+				equalTo(Option.some(3)));
+		assertThat(MatchResult.explain(hasNodeWithinDepth(3, equalTo(-1)), chain).map(MatchResult::toString),
+				equalTo(Option.some("Tree: value mismatch, expected is a Tree with a node matching <-1> at depth 3 or "
+						+ "less, but was <3>")));
+		assertThat(chain, hasTreeHeight(200_000));
+		assertThat(chain, hasTreeSize(200_000));
+		assertThat(tree, hasNodeWithinDepth(2, equalTo(6)));
+		assertThat(tree, hasTreeHeight(3));
+		assertThat(tree, fails(hasTreeHeight(2)).withMismatchDescription("is a Tree of height greater than 2"));
+		assertThat(tree, fails(hasTreeHeight(4)).withMismatchDescription("is a Tree of height 3"));
+		assertThat(tree, fails(hasTreeSize(7)).withMismatchDescription("is a Tree of size 6"));
+		assertThat(Tree.<Integer> empty(), hasTreeHeight(0));
+	}
+
+	@Test
+	void charSeqMatchersShouldSearchInPlace() {
+		CharSeq payload = CharSeq.of("header:").appendAll(CharSeq.repeat('x', 20_000)).appendAll(CharSeq.of(":footer"));
+
+		assertThat(payload, charSeqContains("x:foot"));
+		assertThat(payload, charSeqContains(""));
+		assertThat(CharSeq.of("abcabd"), charSeqContains("abd"));
+		assertThat(CharSeq.of("\u0161abc"), not(charSeqContains("ab\u0162")));
+		assertThat(CharSeq.of("some text"), fails(charSeqContains("next")).withMismatchDescription(
+				"is a CharSeq <some text> without substring \"next\""));
+		assertThat(payload, charSeqStartsWith("header:x"));
+		assertThat(payload, fails(charSeqStartsWith("footer")).withMismatchDescription(
+				"is a CharSeq starting with \"header\""));
+		assertThat(payload, charSeqEndsWith("x:footer"));
+		assertThat(CharSeq.of("ab"), fails(charSeqEndsWith("cab")).withMismatchDescription("is a CharSeq <ab>"));
+		assertThat(payload, charSeqMatches(java.util.regex.Pattern.compile("header:x+:footer")));
+		assertThat(payload, charSeqContainsPattern(java.util.regex.Pattern.compile("x{3}:")));
+		assertThat(CharSeq.of("abc"), fails(charSeqMatches(java.util.regex.Pattern.compile("ab")))
+				.withMismatchDescription(
+				"is a CharSeq <abc> not matching pattern \"ab\""));
+		assertThat(descriptionOf(charSeqContainsPattern(java.util.regex.Pattern.compile("[0-9]+"))),
+				equalTo("is a CharSeq containing a match for pattern \"[0-9]+\""));
+	}
+
+	@Test
+	void bitSetMatchersShouldOnlyLookUpExpectedBits() {
+		BitSet<Integer> evens = BitSet.ofAll(Iterator.range(0, 1_000_000).filter(i -> i % 2 == 0));
+		java.util.BitSet odds = new java.util.BitSet();
+		for (int i = 1; i < 1_000; i += 2) {
+			odds.set(i);
+		}
+
+		assertThat(evens, bitSetContainsAll(0, 2, 999_998));
+		assertThat(evens, bitSetContainsAll());
+		assertThat(evens, fails(bitSetContainsAll(4, 7)).withMismatchDescription("is a BitSet without bit 7"));
+		assertThat(evens, fails(bitSetContainsAll(1_000_000)).withMismatchDescription(
+				"is a BitSet without bit 1000000"));
+		assertThat(BitSet.of(1), fails(bitSetContainsAll(1, 2)).withMismatchDescription(
+				"is a BitSet of cardinality 1"));
+		assertThat(evens, bitSetDisjointFrom(odds));
+		assertThat(evens, bitSetDisjointFrom(1_000_000, 2_000_000));
+		assertThat(evens, fails(bitSetDisjointFrom(3, 6)).withMismatchDescription("is a BitSet with bit 6"));
+		assertThat(BitSet.<Integer> empty(), bitSetDisjointFrom(odds));
+		assertThat(evens, hasCardinality(500_000));
+		assertThat(evens, fails(hasCardinality(3)).withMismatchDescription("is a BitSet of cardinality 500000"));
+		assertThat(descriptionOf(bitSetContainsAll(3, 1, 2)), equalTo("is a BitSet containing the bits {1, 2, 3}"));
+		assertThat(descriptionOf(bitSetDisjointFrom(odds)), startsWith("is a BitSet without any of the bits {1, 3, "));
+		assertThat(descriptionOf(bitSetDisjointFrom(odds)), endsWith(", ...} (500 bits)"));
+
+		AtomicInteger conversions = new AtomicInteger();
+		BitSet<Integer> counting = BitSet.<Integer> withRelations(i -> {
+			conversions.incrementAndGet();
+			return i;
+		}, i -> i).ofAll(Iterator.range(0, 1_000_000));
+		conversions.set(0);
+
+		assertThat(counting, bitSetContainsAll(5, 17));
+		assertThat(counting, bitSetDisjointFrom(2_000_000));
+		assertThat(counting, not(bitSetContainsAll(2_000_000)));
+		assertThat(counting, not(bitSetDisjointFrom(999_999)));
+		assertThat(counting, hasCardinality(1_000_000));
+		assertThat(conversions.get(), equalTo(0));
+	}
+
+	@Test
+	void queueMatchersShouldWalkWithoutDequeuing() {
+		Queue<Integer> queue = Queue.of(1, 2).enqueue(3).enqueue(4);
+		PriorityQueue<Integer> large = PriorityQueue.ofAll(Iterator.range(0, 100_000).map(i -> (i * 7_919) % 100_000));
+		PriorityQueue<String> words = PriorityQueue.of("pear", "apple", "fig");
+
+		assertThat(queue, hasQueueHead(equalTo(1)));
+		assertThat(Queue.<Integer> empty(), fails(hasQueueHead(equalTo(1))).withMismatchDescription(
+				"is an empty Queue"));
+		assertThat(queue, dequeuesInOrder(1, 2, 3, 4));
+		assertThat(queue, fails(dequeuesInOrder(1, 2, 4)).withMismatchDescription(
+				"is a Queue dequeuing <3> at position 2, where <4> was expected"));
+		assertThat(queue, fails(dequeuesInOrder(1, 2, 3)).withMismatchDescription(
+				"is a Queue dequeuing <4> at position 3, where no more elements were expected"));
+		assertThat(queue, fails(dequeuesInOrder(1, 2, 3, 4, 5)).withMismatchDescription("is a Queue of 4 elements"));
+		assertThat(large, hasPriorityQueueHead(equalTo(0)));
+		assertThat(large, isInPriorityOrder(Comparator.<Integer> naturalOrder()));
+		assertThat(large, fails(isInPriorityOrder(Comparator.<Integer> reverseOrder())).withMismatchDescription(
+				"is a PriorityQueue dequeuing <1> at position 1 after <0>"));
+		assertThat(words, dequeuesInPriorityOrder("apple", "fig", "pear"));
+		assertThat(words, fails(hasPriorityQueueHead(equalTo("pear"))).withMismatchDescription(
+				"is a PriorityQueue with head \"apple\" not matching because was \"apple\""));
+		assertThat(descriptionOf(dequeuesInOrder(1, 2)), equalTo("is a queue dequeuing [<1>, <2>]"));
+	}
+
+	@Test
+	void indexedSeqMatchersShouldSampleReproducibly() {
+		Vector<Integer> large = Vector.range(0, 1_000_000);
+		int firstSampled = new java.util.SplittableRandom(42L).nextInt(large.length());
+
+		assertThat(large, everySampledElement(1_000, 42L, lessThan(1_000_000)));
+		assertThat(large, fails(everySampledElement(1_000, 42L, lessThan(0))).withMismatchDescription(
+				"is a Vector with element <" + firstSampled + "> at index " + firstSampled
+						+ " (sample 1 of 1000, seed 42) not matching because <" + firstSampled
+						+ "> was greater than <0>"));
+		assertThat(Array.of(1, 2, 3), fails(everySampledElement(10, 7L, lessThan(3))).withMismatchDescription(
+				"is an Array with element <3> at index 2 (sample 3 of 3, seed 7) not matching because "
+						+ "<3> was equal to <3>"));
+		assertThat(large, everyNthElement(1_000, not(equalTo(999_999))));
+		assertThat(large, fails(everyNthElement(250_000, lessThan(500_000))).withMismatchDescription(
+				"is a Vector with element <500000> at index 500000 (stride 250000) not matching because "
+						+ "<500000> was equal to <500000>"));
+		assertThat(descriptionOf(everyNthElement(10, lessThan(5))),
+				equalTo("is an IndexedSeq of which every element at a multiple of 10 is a value less than <5>"));
+		assertThrows(IllegalArgumentException.class, () -> everySampledElement(-1, 42L, lessThan(5)));
+		assertThrows(IllegalArgumentException.class, () -> everyNthElement(0, lessThan(5)));
+	}
+
+	@Test
+	void matchersInAnyOrderShouldTestEachPairOnce() {
+		int length = 1_000;
+		boolean[] tested = new boolean[(length + 6) * length];
+		AtomicInteger repeated = new AtomicInteger();
+		@SuppressWarnings("unchecked")
+		Matcher<Integer>[] chain = new Matcher[length];
+
+		for (int i = 0; i < length; i++) {
+			int lower = i;
+			chain[i] = new TypeSafeMatcher<Integer>() {
+				@Override
+				protected boolean matchesSafely(Integer item) {
+					if (tested[item * length + lower]) {
+						repeated.incrementAndGet();
+					}
+					tested[item * length + lower] = true;
+					return item == lower || item == lower + 1;
+				}
+
+				@Override
+				public void describeTo(Description description) {
+					description.appendText(lower + " or " + (lower + 1));
+				}
+			};
+		}
+
+		// Every element first takes the matcher below it, so the last element moves all of them up by one
+		List<Integer> elements = List.range(1, length).append(0);
+
+		assertThat(elements, containsExactlyInAnyOrder(chain));
+		assertThat(repeated.get(), equalTo(0));
+
+		Arrays.fill(tested, false);
+		assertThat(elements.append(length + 5), fails(containsExactlyInAnyOrder(chain)).withMismatchDescription(
+				"is a List with element <1005> not matching any of the remaining matchers"));
+		assertThat(repeated.get(), equalTo(0));
+	}
+
+	@Test
+	void failedAssertionShouldAwaitFutureOnce() {
+		AtomicInteger awaits = new AtomicInteger();
+		HackedFuture future = new HackedFuture() {
+			@Override
+			public Future<String> await(long timeout, TimeUnit unit) {
+				awaits.incrementAndGet();
+				return this;
+			}
+		};
+
+		assertThat(future, fails(VavrMatchers.<String>isFuture().withTimeout(1, TimeUnit.SECONDS))
+				.withMismatchDescription("is a Future, that fails, but has no defined failure cause"));
+		assertThat(awaits.get(), equalTo(1));
+
+		assertThat(future, fails(VavrMatchers.<String>isFuture().withTimeout(1, TimeUnit.SECONDS))
+				.withMismatchDescription("is a Future, that fails, but has no defined failure cause"));
+		assertThat(awaits.get(), equalTo(2));
+	}
+
+	@Test
+	void failedAssertionShouldEvaluateLazyOnce() {
+		AtomicInteger evaluations = new AtomicInteger();
+		// A Lazy that throws is evaluated again by every call to get, so a second evaluation would be counted
+		Lazy<Integer> failingLazy = Lazy.of(() -> {
+			evaluations.incrementAndGet();
+			throw new IllegalStateException("Not today");
+		});
+
+		assertThat(failingLazy, fails(isLazy(4).withTimeout(1, TimeUnit.SECONDS)).withMismatchDescription(
+				"is a Lazy, that fails by exceeding timeout"));
+		assertThat(evaluations.get(), equalTo(1));
+
+		CountDownLatch release = new CountDownLatch(1);
+		Lazy<Integer> blockedLazy = Lazy.of(() -> {
+			evaluations.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return 4;
+		});
+
+		try {
+			assertThat(blockedLazy, fails(isLazy(4).withTimeout(50, TimeUnit.MILLISECONDS))
+					.withMismatchDescription("is a Lazy, that fails by exceeding timeout"));
+		} finally {
+			release.countDown();
+		}
+		assertThat(evaluations.get(), equalTo(2));
+	}
+
+	@Test
+	void failedMatchShouldHoldSubjectWeakly() throws IllegalAccessException {
+		MatchMemo<Object, Object> memo = new MatchMemo<>();
+		Object subject = new Object();
+
+		// An outcome that is the subject itself must not keep it reachable either
+		memo.rememberFailure(subject, subject, new Description.NullDescription());
+		List<Object> entry = fieldValues(fieldValues(memo).head());
+		assertThat(entry, not(hasItem(sameInstance(subject))));
+		assertThat(entry.filter(WeakReference.class::isInstance).map(reference -> ((WeakReference<?>) reference).get()),
+				equalTo(List.of(subject)));
+		assertThat(memo.recall(subject, new StringDescription()), sameInstance(subject));
+
+		// Under not(...) the mismatch is never described, so the memo is never recalled
+		TypeSafeDiagnosingMatcher<Stream<? extends Integer>> matcher = hasStreamPrefix(1, 2, 3);
+		Stream<Integer> stream = Stream.range(0, 10);
+		assertThat(stream, not(matcher));
+		Object streamMemo = fieldValues(matcher).find(MatchMemo.class::isInstance).get();
+		assertThat(fieldValues(fieldValues(streamMemo).head()), not(hasItem(sameInstance(stream))));
+
+		assertThat(Stream.of(1, 2, 3), matcher);
+		assertThat(fieldValues(streamMemo).head(), nullValue());
+	}
+
+	@Test
+	void nestedMismatchShouldEvaluateInnerMatchersOnce() {
+		AtomicInteger evaluations = new AtomicInteger();
+		TypeSafeMatcher<String> countingMatcher = new TypeSafeMatcher<String>() {
+			@Override
+			protected boolean matchesSafely(String item) {
+				evaluations.incrementAndGet();
+				return "A".equals(item);
+			}
+
+			@Override
+			public void describeTo(Description description) {
+				description.appendText("A");
+			}
+		};
+
+		Option<Either<?, Try<Lazy<String>>>> nested = Option.some(Either.right(Try.success(Lazy.of(() -> "B"))));
+
+		assertThat(nested, fails(isSome(isRight(isSuccess(isLazy(countingMatcher))))).withMismatchDescription(
+				"is an Option with value <Right(Success(Lazy(B)))> not matching because is a right Either, with value " +
+						"<Success(Lazy(B))> not matching because is a success, with value <Lazy(B)> not matching because is a Lazy, " +
+						"which yields value \"B\" not matching because was \"B\""));
+		assertThat(evaluations.get(), equalTo(1));
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	@Test
 	void testDescriptions() {
@@ -528,10 +1368,24 @@ public class VavrMatchersTest {
 	}
 
 
+	private static List<Object> fieldValues(Object holder) throws IllegalAccessException {
+		List<Object> values = List.empty();
+
+		for (Field field : holder.getClass().getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers())) {
+				field.setAccessible(true);
+				values = values.append(field.get(holder));
+			}
+		}
+
+		return values;
+	}
+
 	@FunctionalInterface
 	private interface WithMismatchDescription<T> {
 		@NotNull
 		TypeSafeDiagnosingMatcher<T> withMismatchDescription(
 				@NotNull @Pattern("^.+$") String expectedMismatchDescription);
 	}
+
 }
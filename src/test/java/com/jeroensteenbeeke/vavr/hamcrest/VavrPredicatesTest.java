@@ -0,0 +1,146 @@
+package com.jeroensteenbeeke.vavr.hamcrest;
+
+import io.vavr.Lazy;
+import io.vavr.collection.List;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.jeroensteenbeeke.vavr.hamcrest.VavrPredicates.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class VavrPredicatesTest {
+	@Test
+	void predicatesShouldNotBeInstantiated() {
+		assertThrows(UnsupportedOperationException.class, VavrPredicates::new);
+	}
+
+	@Test
+	void parameterlessPredicatesShouldBeShared() {
+		assertThat(isSome(), sameInstance(isSome()));
+		assertThat(isNone(), sameInstance(isNone()));
+		assertThat(isLeft(), sameInstance(isLeft()));
+		assertThat(isRight(), sameInstance(isRight()));
+		assertThat(isSuccess(), sameInstance(isSuccess()));
+		assertThat(isFailure(), sameInstance(isFailure()));
+		assertThat(isFuture(), sameInstance(isFuture()));
+		assertThat(isFailedFuture(), sameInstance(isFailedFuture()));
+		assertThat(isLazy(), sameInstance(isLazy()));
+	}
+
+	@Test
+	void optionPredicates() {
+		List<Option<Integer>> options = List.of(Option.some(1), Option.none(), Option.some(3));
+
+		assertThat(options.count(isSome()), equalTo(2));
+		assertThat(options.count(isNone()), equalTo(1));
+		assertThat(options.count(isSome(3)), equalTo(1));
+		assertThat(options.count(isSome((Integer i) -> i < 3)), equalTo(1));
+	}
+
+	@Test
+	void eitherPredicates() {
+		List<Either<String, Integer>> eithers = List.of(Either.left("A"), Either.right(1), Either.right(2));
+
+		assertThat(eithers.count(isLeft()), equalTo(1));
+		assertThat(eithers.count(isLeft("A")), equalTo(1));
+		assertThat(eithers.count(isLeft("B")), equalTo(0));
+		assertThat(eithers.count(isLeft((String s) -> s.isEmpty())), equalTo(0));
+		assertThat(eithers.count(isRight()), equalTo(2));
+		assertThat(eithers.count(isRight(2)), equalTo(1));
+		assertThat(eithers.count(isRight((Integer i) -> i > 0)), equalTo(2));
+	}
+
+	@Test
+	void tryPredicates() {
+		List<Try<Integer>> attempts = List.of(Try.success(1), Try.failure(new IllegalStateException("State")),
+				Try.failure(new IllegalArgumentException("Argument")));
+
+		assertThat(attempts.count(isSuccess()), equalTo(1));
+		assertThat(attempts.count(isSuccess(1)), equalTo(1));
+		assertThat(attempts.count(isSuccess((Integer i) -> i > 1)), equalTo(0));
+		assertThat(attempts.count(isFailure()), equalTo(2));
+		assertThat(attempts.count(isFailure(IllegalStateException.class)), equalTo(1));
+		assertThat(attempts.count(isFailure(RuntimeException.class)), equalTo(2));
+		assertThat(attempts.count(isFailure((Throwable t) -> "Argument".equals(t.getMessage()))), equalTo(1));
+	}
+
+	@Test
+	void futurePredicates() {
+		List<Future<Integer>> futures = List.of(Future.successful(1),
+				Future.failed(new IllegalStateException("State")), Future.of(() -> 2));
+
+		assertThat(futures.count(isFuture()), equalTo(2));
+		assertThat(futures.count(isFuture(2)), equalTo(1));
+		assertThat(futures.count(isFuture((Integer i) -> i < 5)), equalTo(2));
+		assertThat(futures.count(isFailedFuture()), equalTo(1));
+		assertThat(futures.count(isFailedFuture(IllegalStateException.class)), equalTo(1));
+		assertThat(futures.count(isFailedFuture(IllegalArgumentException.class)), equalTo(0));
+		assertThat(futures.count(isFailedFuture((Throwable t) -> "State".equals(t.getMessage()))), equalTo(1));
+
+		List<Future<Integer>> timed = futures.append(Promise.<Integer> make().future());
+
+		assertThat(timed.count(isFuture(1, TimeUnit.SECONDS)), equalTo(2));
+		assertThat(timed.count(isFuture(2, 1, TimeUnit.SECONDS)), equalTo(1));
+		assertThat(timed.count(isFuture((Integer i) -> i < 5, 1, TimeUnit.SECONDS)), equalTo(2));
+		assertThat(timed.count(isFailedFuture(50, TimeUnit.MILLISECONDS)), equalTo(1));
+		assertThat(timed.count(isFailedFuture(IllegalStateException.class, 50, TimeUnit.MILLISECONDS)), equalTo(1));
+		assertThat(timed.count(isFailedFuture((Throwable t) -> true, 50, TimeUnit.MILLISECONDS)), equalTo(1));
+		assertThrows(IllegalArgumentException.class, () -> isFuture(0, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void lazyPredicates() {
+		List<Lazy<Integer>> lazies = List.of(Lazy.of(() -> 1), Lazy.of(() -> 2));
+
+		assertThat(lazies.count(isLazy()), equalTo(2));
+		assertThat(lazies.count(isLazy(2)), equalTo(1));
+		assertThat(lazies.count(isLazy((Integer i) -> i > 0)), equalTo(2));
+
+		CountDownLatch release = new CountDownLatch(1);
+		List<Lazy<Integer>> timed = lazies.append(Lazy.of(() -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return 3;
+		}));
+
+		try {
+			assertThat(timed.count(isLazy(50, TimeUnit.MILLISECONDS)), equalTo(2));
+			assertThat(timed.count(isLazy(3, 50, TimeUnit.MILLISECONDS)), equalTo(0));
+			assertThat(timed.count(isLazy((Integer i) -> i > 0, 50, TimeUnit.MILLISECONDS)), equalTo(2));
+		} finally {
+			release.countDown();
+		}
+		assertThrows(IllegalArgumentException.class, () -> isLazy(-1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void predicatesShouldUseGlobalEquivalence() {
+		Equivalence<Object> previous = Equivalence.setGlobal(Equivalence.of(
+				(expected, actual) -> String.valueOf(actual).startsWith(String.valueOf(expected))));
+		try {
+			assertThat(isSome("ab").test(Option.some("abc")), equalTo(true));
+			assertThat(isLeft("ab").test(Either.left("abc")), equalTo(true));
+			assertThat(isRight("ab").test(Either.right("abc")), equalTo(true));
+			assertThat(isSuccess("ab").test(Try.success("abc")), equalTo(true));
+			assertThat(isFuture("ab").test(Future.successful("abc")), equalTo(true));
+			assertThat(isLazy("ab").test(Lazy.of(() -> "abc")), equalTo(true));
+			assertThat(isSome("ab").test(Option.some("xabc")), equalTo(false));
+		} finally {
+			Equivalence.setGlobal(previous);
+		}
+		assertThat(isSome("ab").test(Option.some("abc")), equalTo(false));
+	}
+}